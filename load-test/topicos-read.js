@@ -0,0 +1,64 @@
+// Prueba de carga de lecturas de /topicos con 1000 clientes concurrentes (k6).
+// Correr una vez con la aplicación en modo por defecto (hilos de plataforma) y otra con el perfil
+// virtual-threads, y comparar http_reqs (throughput) y el p(99) de http_req_duration.
+//
+//   docker run --rm -i --network host -e BASE_URL=http://localhost:8080 grafana/k6 run - < load-test/topicos-read.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 1000);
+const DURATION = __ENV.DURATION || '60s';
+const TOPICOS = Number(__ENV.TOPICOS || 200);
+
+export const options = {
+    scenarios: {
+        lecturas: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+// Registra un usuario, crea un curso y carga tópicos para que las lecturas devuelvan páginas completas
+export function setup() {
+    const sufijo = Date.now();
+    const email = `carga${sufijo}@forohub.com`;
+    const contrasena = 'carga123456';
+
+    http.post(`${BASE_URL}/auth/register`,
+        JSON.stringify({ nombre: 'Usuario Carga', email, contrasena }), { headers: JSON_HEADERS });
+    const login = http.post(`${BASE_URL}/auth/login`,
+        JSON.stringify({ email, contrasena }), { headers: JSON_HEADERS });
+    const token = login.json('token');
+    const headers = Object.assign({ Authorization: `Bearer ${token}` }, JSON_HEADERS);
+
+    const curso = http.post(`${BASE_URL}/cursos`,
+        JSON.stringify({ nombre: `Curso Carga ${sufijo}`, categoria: 'Backend' }), { headers });
+    const cursoId = curso.json('id');
+
+    for (let i = 0; i < TOPICOS; i++) {
+        http.post(`${BASE_URL}/topicos`, JSON.stringify({
+            titulo: `Tópico de carga ${sufijo}-${i}`,
+            mensaje: `Mensaje del tópico de carga número ${i}`,
+            idCurso: cursoId,
+        }), { headers });
+    }
+
+    return { token };
+}
+
+export default function (data) {
+    const res = http.get(`${BASE_URL}/topicos?page=0&size=10`, {
+        headers: { Authorization: `Bearer ${data.token}` },
+        tags: { name: 'GET /topicos' },
+    });
+    check(res, { 'status 200': (r) => r.status === 200 });
+}
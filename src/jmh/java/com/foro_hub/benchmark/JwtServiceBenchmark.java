@@ -0,0 +1,77 @@
+package com.foro_hub.benchmark;
+
+import com.foro_hub.domain.Usuario;
+import com.foro_hub.security.JwtService;
+import com.foro_hub.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// Costo de validar un JWT por request en JwtAuthenticationFilter.
+// "antes" reproduce el flujo original: clave y parser nuevos en cada llamada y tres parseos por request
+// (extractUsername, isTokenValid -> extractUsername, extractExpiration). "despues" usa JwtService actual,
+// sin cache (un parseo por request) y con VerifiedTokenCache (el mismo token repetido por un cliente).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "forohub_jwt_secret_key_min_256_bits_required_for_security";
+
+    private JwtService jwtService;
+    private JwtService jwtServiceSinCache;
+    private Usuario usuario;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 3_600_000L, new VerifiedTokenCache(10_000, new SimpleMeterRegistry()));
+        jwtServiceSinCache = new JwtService(SECRET, 3_600_000L, new VerifiedTokenCache(0, new SimpleMeterRegistry()));
+        usuario = Usuario.builder()
+                .withId(1L)
+                .withNombre("Usuario Benchmark")
+                .withEmail("benchmark@forohub.com")
+                .withContrasena("irrelevante")
+                .build();
+        token = jwtService.generateToken(usuario);
+    }
+
+    @Benchmark
+    public boolean antes_tresParseosPorRequest() {
+        final String username = legacyClaims(token).getSubject();
+        final boolean mismoUsuario = legacyClaims(token).getSubject().equals(usuario.getUsername());
+        final boolean expirado = legacyClaims(token).getExpiration().before(new Date());
+        return username != null && mismoUsuario && !expirado;
+    }
+
+    @Benchmark
+    public boolean despues_unParseoPorRequest() {
+        final Claims claims = jwtServiceSinCache.extractAllClaims(token);
+        return claims.getSubject() != null && jwtServiceSinCache.isTokenValid(claims, usuario);
+    }
+
+    @Benchmark
+    public boolean despues_tokenVerificadoEnCache() {
+        final Claims claims = jwtService.extractAllClaims(token);
+        return claims.getSubject() != null && jwtService.isTokenValid(claims, usuario);
+    }
+
+    private static Claims legacyClaims(final String token) {
+        final SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,117 @@
+package com.foro_hub.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// Costo de los logs que hace un GET /topicos en el hilo del request: filtro JWT, controller y servicio.
+// - sincronicoInfo: como estaba, tres INFO escritos en el mismo hilo
+// - asincronoInfo: los mismos tres INFO con el AsyncAppender de logback-spring.xml
+// - debugDeshabilitado: como queda, los mensajes en DEBUG con el nivel en INFO
+// El appender escribe a un archivo temporal con el patrón de consola de Spring Boot (sin colores).
+//   ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="LoggingBenchmark -f 1 -prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String PATRON = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %pid --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    private final Pageable pageable = PageRequest.of(0, 10, Sort.by("fechaCreacion").descending());
+    private final String email = "juan@test.com";
+
+    private LoggerContext contexto;
+    private Path archivo;
+    private Logger sincronico;
+    private Logger asincrono;
+    private Logger deshabilitado;
+
+    @Setup
+    public void setUp() throws IOException {
+        contexto = new LoggerContext();
+        archivo = Files.createTempFile("foro-hub-logging-bench", ".log");
+
+        final Appender<ILoggingEvent> archivoSincronico = archivo("SYNC");
+        final AsyncAppender async = new AsyncAppender();
+        async.setContext(contexto);
+        async.setName("ASYNC");
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(1638);
+        async.setIncludeCallerData(false);
+        async.addAppender(archivo("FILE"));
+        async.start();
+
+        sincronico = logger("bench.sincronico", archivoSincronico, Level.INFO);
+        asincrono = logger("bench.asincrono", async, Level.INFO);
+        deshabilitado = logger("bench.deshabilitado", archivoSincronico, Level.INFO);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        contexto.stop();
+        Files.deleteIfExists(archivo);
+    }
+
+    @Benchmark
+    public void sincronicoInfo() {
+        sincronico.info("[ForoHub/Security] - Usuario autenticado: {}", email);
+        sincronico.info("Listando topicos con paginacion: {}", pageable);
+        sincronico.info("Listando Topicos con paginación (filtro: {}, resumen: {})", pageable, false);
+    }
+
+    @Benchmark
+    public void asincronoInfo() {
+        asincrono.info("[ForoHub/Security] - Usuario autenticado: {}", email);
+        asincrono.info("Listando topicos con paginacion: {}", pageable);
+        asincrono.info("Listando Topicos con paginación (filtro: {}, resumen: {})", pageable, false);
+    }
+
+    @Benchmark
+    public void debugDeshabilitado() {
+        if (deshabilitado.isDebugEnabled()) {
+            deshabilitado.debug("[ForoHub/Security] - Usuario autenticado: {}", email);
+        }
+        deshabilitado.debug("Listando topicos con paginacion: {}", pageable);
+        deshabilitado.debug("Listando Topicos con paginación (filtro: {}, resumen: {})", pageable, false);
+    }
+
+    private Appender<ILoggingEvent> archivo(final String nombre) {
+        final PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(contexto);
+        encoder.setPattern(PATRON);
+        encoder.start();
+
+        final FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(contexto);
+        appender.setName(nombre);
+        appender.setFile(archivo.toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    private Logger logger(final String nombre, final Appender<ILoggingEvent> appender, final Level nivel) {
+        final Logger logger = contexto.getLogger(nombre);
+        logger.setAdditive(false);
+        logger.setLevel(nivel);
+        logger.addAppender(appender);
+        return logger;
+    }
+}
@@ -0,0 +1,44 @@
+package com.foro_hub.benchmark;
+
+import com.foro_hub.config.SecurityConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// Tiempo de hash (registro / re-hash) y de verificación (login) por costo de BCrypt, con el mismo encoder
+// delegante que usa SecurityConfig. SampleTime reporta percentiles: elegir el mayor costo cuyo p0.99 de
+// "verificar" entre en el SLO de login dejando margen para la espera en PasswordHashingExecutor.
+//   ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="PasswordEncoderBenchmark -f 1"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "password123";
+
+    @Param({"10", "11", "12", "13", "14"})
+    private int costo;
+
+    private PasswordEncoder passwordEncoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = SecurityConfig.delegatingPasswordEncoder(costo);
+        hash = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String hashear() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verificar() {
+        return passwordEncoder.matches(PASSWORD, hash);
+    }
+}
@@ -0,0 +1,55 @@
+package com.foro_hub.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.foro_hub.dto.topico.TopicoCreateDTO;
+import com.foro_hub.util.ContenidoHashUtils;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Trabajo en la aplicación por lote de POST /topicos/bulk antes de tocar la base: parsear cada línea NDJSON,
+// validarla y calcular su contenido_hash. Es la parte que no depende de MySQL, así que fija el techo de
+// tópicos/minuto que puede sostener un solo request (el objetivo es 50.000/min, ~833 por segundo).
+//   ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="TopicoImportBenchmark -f 1"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class TopicoImportBenchmark {
+
+    private static final int LOTE = 1_000;
+
+    private ObjectReader lector;
+    private Validator validator;
+    private List<String> lineas;
+
+    @Setup
+    public void setUp() {
+        lector = new ObjectMapper().readerFor(TopicoCreateDTO.class);
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        lineas = new ArrayList<>(LOTE);
+        for (int i = 0; i < LOTE; i++) {
+            lineas.add("{\"titulo\": \"Consulta migrada " + i + "\", "
+                    + "\"mensaje\": \"" + "Contenido del foro anterior con varias oraciones de texto. ".repeat(10) + i + "\", "
+                    + "\"idCurso\": " + (i % 10 + 1) + "}");
+        }
+    }
+
+    @Benchmark
+    public void leerLote(final Blackhole blackhole) throws IOException {
+        for (String linea : lineas) {
+            final TopicoCreateDTO dto = lector.readValue(linea);
+            blackhole.consume(validator.validate(dto));
+            blackhole.consume(ContenidoHashUtils.calcular(dto.titulo(), dto.mensaje()));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.foro_hub.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+// La consulta de TopicoRepository.findByIdAndActivoTrue (GET /topicos/{id}) contra MySQL, con el driver por defecto
+// y con las data-source-properties del perfil prod. Cada invocación toma la conexión del pool, prepara, ejecuta y
+// cierra el statement, como hace Hibernate en cada request. Al terminar imprime los contadores de la sesión por
+// consulta: Com_stmt_prepare muestra los prepare que se ahorra el cache y Questions los round trips totales.
+// Necesita MySQL con el esquema migrado (docker compose up -d y arrancar la aplicación una vez):
+//   ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="TopicoLookupBenchmark -f 1"
+// La URL y las credenciales salen de BENCHMARK_MYSQL_URL, DB_USERNAME y DB_PASSWORD
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class TopicoLookupBenchmark {
+
+    private static final String FIND_BY_ID_AND_ACTIVO_TRUE = """
+            select t1_0.id, t1_0.activo, t1_0.autor_id, t1_0.contenido_hash, t1_0.curso_id, t1_0.fecha_creacion,
+                   t1_0.fecha_modificacion, t1_0.mensaje, t1_0.respuestas_count, t1_0.soluciones_count, t1_0.status,
+                   t1_0.titulo, t1_0.ultima_respuesta_fecha, t1_0.version
+            from topicos t1_0
+            where t1_0.id = ? and t1_0.activo
+            """;
+
+    @Param({"defecto", "prod"})
+    private String driver;
+
+    private HikariDataSource pool;
+    private long consultas;
+    private long siguienteId;
+
+    @Setup
+    public void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl(System.getenv().getOrDefault("BENCHMARK_MYSQL_URL", "jdbc:mysql://localhost:3306/forohub"));
+        pool.setUsername(System.getenv().getOrDefault("DB_USERNAME", "forohub_user"));
+        pool.setPassword(System.getenv().getOrDefault("DB_PASSWORD", "forohub_pass"));
+        // Una sola conexión: los contadores de sesión del final cubren todas las consultas medidas
+        pool.setMaximumPoolSize(1);
+        if ("prod".equals(driver)) {
+            // Igual que application-prod.yaml
+            pool.addDataSourceProperty("useServerPrepStmts", "true");
+            pool.addDataSourceProperty("cachePrepStmts", "true");
+            pool.addDataSourceProperty("prepStmtCacheSize", "250");
+            pool.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+            pool.addDataSourceProperty("cacheResultSetMetadata", "true");
+            pool.addDataSourceProperty("cacheServerConfiguration", "true");
+            pool.addDataSourceProperty("useLocalSessionState", "true");
+            pool.addDataSourceProperty("elideSetAutoCommits", "true");
+            pool.addDataSourceProperty("maintainTimeStats", "false");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Connection connection = pool.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet estado = statement.executeQuery(
+                     "SHOW SESSION STATUS WHERE Variable_name IN ('Com_stmt_prepare', 'Com_stmt_execute', 'Questions')")) {
+            while (estado.next()) {
+                System.out.printf("%n[%s] %s por consulta: %.2f", driver, estado.getString(1),
+                        estado.getLong(2) / (double) consultas);
+            }
+            System.out.println();
+        }
+        pool.close();
+    }
+
+    @Benchmark
+    public void findByIdAndActivoTrue(final Blackhole blackhole) throws SQLException {
+        try (Connection connection = pool.getConnection();
+             PreparedStatement select = connection.prepareStatement(FIND_BY_ID_AND_ACTIVO_TRUE)) {
+            select.setLong(1, siguienteId++ % 1_000 + 1);
+            try (ResultSet topico = select.executeQuery()) {
+                blackhole.consume(topico.next() ? topico.getString("titulo") : null);
+            }
+        }
+        consultas++;
+    }
+}
@@ -0,0 +1,108 @@
+package com.foro_hub.benchmark;
+
+import com.foro_hub.domain.enums.StatusTopico;
+import com.foro_hub.dto.topico.TopicoSearchResultDTO;
+import com.foro_hub.search.TopicoDocumento;
+import com.foro_hub.search.TopicoSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Primera página de GET /topicos/search contra TopicoSearchIndex, comparada con recorrer todos los mensajes
+// buscando el término (lo que hace la base con mensaje LIKE '%termino%': no puede usar índices sobre TEXT).
+// El recorrido en memoria es una cota inferior del LIKE real, que además lee las filas desde disco.
+// El índice se arma en un directorio temporal, igual que en producción (MMapDirectory).
+//   ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="TopicoSearchBenchmark -f 1"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class TopicoSearchBenchmark {
+
+    private static final String[] PALABRAS = {
+            "spring", "boot", "jpa", "hibernate", "consulta", "error", "token", "seguridad", "docker", "mysql",
+            "transaccion", "cache", "indice", "servicio", "controlador", "validacion", "excepcion", "stream",
+            "lambda", "record", "flyway", "migracion", "perfil", "prueba", "mock", "contenedor", "puerto"};
+
+    @Param({"10000", "100000"})
+    private int topicos;
+
+    private Path ruta;
+    private TopicoSearchIndex index;
+    private List<String> mensajes;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Random random = new Random(42);
+        ruta = Files.createTempDirectory("foro-hub-search-bench");
+        index = new TopicoSearchIndex(ruta, 1000);
+        mensajes = new ArrayList<>(topicos);
+        final List<TopicoDocumento> lote = new ArrayList<>();
+
+        for (long id = 1; id <= topicos; id++) {
+            final StringBuilder mensaje = new StringBuilder();
+            for (int i = 0; i < 80; i++) {
+                mensaje.append(PALABRAS[random.nextInt(PALABRAS.length)]).append(' ');
+            }
+            // Un término poco frecuente, como los que suele buscar un usuario
+            if (id % 500 == 0) {
+                mensaje.append("kubernetes");
+            }
+            mensajes.add(mensaje.toString());
+            lote.add(TopicoDocumento.builder()
+                    .withId(id)
+                    .withTitulo("Topico " + id)
+                    .withMensaje(mensaje.toString())
+                    .withStatus(StatusTopico.ABIERTO)
+                    .withCursoId(id % 10)
+                    .withCursoNombre("Curso " + id % 10)
+                    .withFechaCreacion(LocalDateTime.of(2026, 2, 4, 15, 30))
+                    .withRespuestas(List.of())
+                    .build());
+
+            if (lote.size() == 1_000) {
+                index.indexar(lote);
+                lote.clear();
+            }
+        }
+        index.indexar(lote);
+        index.confirmar();
+        index.refrescar();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        index.close();
+        try (var archivos = Files.walk(ruta)) {
+            archivos.sorted(Comparator.reverseOrder()).forEach(archivo -> archivo.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public List<TopicoSearchResultDTO> indiceInvertido() {
+        return index.buscar("kubernetes", null, null, null, null, 11);
+    }
+
+    @Benchmark
+    public List<String> recorridoCompleto() {
+        // Para ordenar por relevancia hay que evaluar todas las filas, no alcanza con cortar en las primeras 11
+        final List<String> encontrados = new ArrayList<>();
+        for (String mensaje : mensajes) {
+            if (mensaje.toLowerCase(Locale.ROOT).contains("kubernetes")) {
+                encontrados.add(mensaje);
+            }
+        }
+        return encontrados;
+    }
+}
@@ -0,0 +1,13 @@
+package com.foro_hub.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Los executors los configura Spring Boot: pool de hilos de plataforma por defecto,
+// hilos virtuales con spring.threads.virtual.enabled (perfil virtual-threads)
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
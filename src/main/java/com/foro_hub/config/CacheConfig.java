@@ -0,0 +1,11 @@
+package com.foro_hub.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USUARIOS_CACHE = "usuarios";
+}
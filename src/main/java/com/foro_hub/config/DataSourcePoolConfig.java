@@ -0,0 +1,37 @@
+package com.foro_hub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+// Perfil prod (application-prod.yaml). Sin DB_POOL_MAX_SIZE el pool se dimensiona con la regla de HikariCP,
+// núcleos * 2 + 1: más conexiones que consultas puede ejecutar MySQL en paralelo solo mueven la espera del pool
+// a la base. Si otro perfil fija spring.datasource.hikari.maximum-pool-size (virtual-threads) se respeta ese valor
+@Configuration
+@Profile("prod")
+public class DataSourcePoolConfig {
+
+    static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+    static final String TAMANIO_POOL = "api.datasource.pool.max-size";
+
+    @Bean
+    static BeanPostProcessor tamanioPoolPostProcessor(final Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+                if (bean instanceof HikariDataSource pool && !environment.containsProperty(MAXIMUM_POOL_SIZE)) {
+                    pool.setMaximumPoolSize(tamanioPool(environment.getProperty(TAMANIO_POOL, Integer.class, 0),
+                            Runtime.getRuntime().availableProcessors()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    static int tamanioPool(final int configurado, final int nucleos) {
+        return configurado > 0 ? configurado : nucleos * 2 + 1;
+    }
+}
@@ -0,0 +1,79 @@
+package com.foro_hub.config;
+
+import com.foro_hub.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Solo con api.datasource.replica.url: sin réplica queda el DataSource que arma Spring Boot.
+// LazyConnectionDataSourceProxy pide la conexión física recién en la primera sentencia, cuando ya sabe si la
+// transacción es readOnly: esas van a ReplicaDataSource y todas las demás (escrituras, Flyway) al primario
+@Configuration
+@ConditionalOnProperty(prefix = "api.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // El pool de la réplica no es un bean: así el health check de la base no queda DOWN si la réplica se cae
+    @Bean
+    public ReplicaDataSource replicaDataSource(final HikariDataSource primarioDataSource,
+                                               @Value("${api.datasource.replica.url}") final String url,
+                                               @Value("${api.datasource.replica.username}") final String username,
+                                               @Value("${api.datasource.replica.password}") final String password,
+                                               @Value("${api.datasource.replica.pool-size:10}") final int poolSize,
+                                               @Value("${api.datasource.replica.max-lag-ms:3000}") final long maxLagMs,
+                                               final ObjectProvider<MeterRegistry> meterRegistry) {
+        final HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(url);
+        replica.setUsername(username);
+        replica.setPassword(password);
+        replica.setMaximumPoolSize(poolSize);
+        replica.setReadOnly(true);
+        // Mismo ajuste de driver y detección de fugas que el primario (perfil prod)
+        replica.setDataSourceProperties(primarioDataSource.getDataSourceProperties());
+        replica.setLeakDetectionThreshold(primarioDataSource.getLeakDetectionThreshold());
+        meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        // Si la réplica no entrega una conexión rápido conviene ir al primario antes que hacer esperar al request
+        replica.setConnectionTimeout(1_000);
+        // Que un arranque con la réplica caída no impida levantar la aplicación
+        replica.setInitializationFailTimeout(-1);
+        return new ReplicaDataSource(primarioDataSource, replica, Duration.ofMillis(maxLagMs));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final HikariDataSource primarioDataSource, final ReplicaDataSource replicaDataSource) {
+        final LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primarioDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    // Spring configura Hibernate para retener la conexión hasta cerrar la sesión, y con open-in-view la sesión dura
+    // todo el request: una escritura posterior a una lectura readOnly heredaría la conexión de la réplica. Soltándola
+    // al terminar cada transacción, la siguiente vuelve a pasar por LazyConnectionDataSourceProxy y elige el pool
+    @Bean
+    public HibernatePropertiesCustomizer liberarConexionAlTerminarTransaccion() {
+        return propiedades -> propiedades.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
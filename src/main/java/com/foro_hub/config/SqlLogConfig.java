@@ -0,0 +1,52 @@
+package com.foro_hub.config;
+
+import com.foro_hub.datasource.ConsultaLentaListener;
+import com.foro_hub.datasource.SentenciasPorRequestFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+// Envuelve el DataSource principal (el que usan JPA, Flyway y JdbcTemplate) con datasource-proxy para el log de
+// consultas lentas y el conteo de sentencias por request. Con réplica se envuelve el proxy de ruteo, así que
+// también se cuentan las lecturas que van a la réplica
+@Configuration
+public class SqlLogConfig {
+
+    private static final String DATA_SOURCE = "dataSource";
+
+    @Bean
+    static BeanPostProcessor consultaLentaDataSourcePostProcessor(final Environment environment) {
+        final long umbralMs = environment.getProperty("api.sql.consulta-lenta-ms", Long.class, 200L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!(bean instanceof DataSource dataSource) || !DATA_SOURCE.equals(beanName)) {
+                    return bean;
+                }
+                // Sin proxyResultSet: solo se envuelven conexiones y sentencias, nunca las filas leídas
+                return ProxyDataSourceBuilder.create(DATA_SOURCE, dataSource)
+                        .listener(new ConsultaLentaListener(umbralMs))
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SentenciasPorRequestFilter> sentenciasPorRequestFilter(
+            final MeterRegistry meterRegistry,
+            @Value("${api.sql.sentencias-por-request-alerta:25}") final int umbralAlerta) {
+        final FilterRegistrationBean<SentenciasPorRequestFilter> registro =
+                new FilterRegistrationBean<>(new SentenciasPorRequestFilter(meterRegistry, umbralAlerta));
+        // Antes de Spring Security: cuenta también la carga del usuario autenticado
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registro;
+    }
+}
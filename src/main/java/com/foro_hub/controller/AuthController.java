@@ -54,11 +54,11 @@ public class AuthController {
     })
     @PostMapping("/register")
     public ResponseEntity<RegisterResponseDTO> register(@RequestBody @Valid final RegisterRequestDTO request) {
-        log.info("[ForoHub/Auth] - POST /auth/register - Registrando usuario: {}", request.email());
+        log.debug("[ForoHub/Auth] - POST /auth/register - Registrando usuario: {}", request.email());
 
         final RegisterResponseDTO response = authService.register(request);
 
-        log.info("[ForoHub/Auth] - Usuario registrado exitosamente: {}", request.email());
+        log.debug("[ForoHub/Auth] - Usuario registrado exitosamente: {}", request.email());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -85,11 +85,11 @@ public class AuthController {
     })
     @PostMapping("/login")
     public ResponseEntity<AuthResponseDTO> login(@RequestBody @Valid final LoginRequestDTO request) {
-        log.info("[ForoHub/Auth] - POST /auth/login - Login para usuario: {}", request.email());
+        log.debug("[ForoHub/Auth] - POST /auth/login - Login para usuario: {}", request.email());
 
         final AuthResponseDTO response = authService.login(request);
 
-        log.info("[ForoHub/Auth] - Login exitoso para usuario: {}", request.email());
+        log.debug("[ForoHub/Auth] - Login exitoso para usuario: {}", request.email());
         return ResponseEntity.ok(response);
     }
 }
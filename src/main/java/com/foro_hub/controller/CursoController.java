@@ -4,7 +4,10 @@ import com.foro_hub.dto.curso.CursoCreateDTO;
 import com.foro_hub.dto.curso.CursoResponseDTO;
 import com.foro_hub.dto.curso.CursoUpdateDTO;
 import com.foro_hub.dto.error.ErrorResponseDTO;
+import com.foro_hub.dto.pagination.CursorPageDTO;
 import com.foro_hub.service.CursoService;
+import com.foro_hub.util.VersionRecurso;
+import com.foro_hub.util.Versionado;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,8 +23,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
@@ -34,6 +41,9 @@ import java.net.URI;
 @SecurityRequirement(name = "bearerAuth")
 public class CursoController {
 
+    // Sin esto Spring Security responde no-store y el cliente no guarda el ETag para revalidar
+    private static final CacheControl REVALIDAR = CacheControl.noCache().cachePrivate();
+
     private final CursoService cursoService;
 
     @Operation(
@@ -58,18 +68,20 @@ public class CursoController {
     })
     @PostMapping
     public ResponseEntity<CursoResponseDTO> crearCurso(@RequestBody @Valid final CursoCreateDTO createDTO, UriComponentsBuilder uriBuilder) {
-        log.info("Creando nuevo curso con nombre: {}", createDTO.nombre());
+        log.debug("Creando nuevo curso con nombre: {}", createDTO.nombre());
         final CursoResponseDTO response = cursoService.crearCurso(createDTO);
 
         URI url = uriBuilder.path("/cursos/{id}").buildAndExpand(response.id()).toUri();
 
-        log.info("Curso creado exitosamente con id: {}", response.id());
+        log.debug("Curso creado exitosamente con id: {}", response.id());
         return ResponseEntity.created(url).body(response);
     }
 
     @Operation(
             summary = "Obtener curso por ID",
-            description = "Retorna la información detallada de un curso específico."
+            description = "Retorna la información detallada de un curso específico. " +
+                    "La respuesta incluye ETag y Last-Modified; con If-None-Match (o If-Modified-Since) de la versión actual " +
+                    "responde 304 sin cuerpo."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -77,6 +89,10 @@ public class CursoController {
                     description = "Curso encontrado",
                     content = @Content(schema = @Schema(implementation = CursoResponseDTO.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "El cliente ya tiene la versión actual"
+            ),
             @ApiResponse(
                     responseCode = "403",
                     description = "No autenticado"
@@ -90,11 +106,17 @@ public class CursoController {
     @GetMapping("/{id}")
     public ResponseEntity<CursoResponseDTO> obtenerCursoPorId(
             @Parameter(description = "ID del curso", example = "1")
-            @PathVariable final Long id) {
-        log.info("Buscando curso con id: {}", id);
-        final CursoResponseDTO response = cursoService.obtenerCursoPorId(id);
+            @PathVariable final Long id,
+            final WebRequest request) {
+        log.debug("Buscando curso con id: {}", id);
 
-        return ResponseEntity.ok(response);
+        final Versionado<CursoResponseDTO> curso = cursoService.obtenerCursoPorId(id,
+                version -> request.checkNotModified(version.etag(), version.ultimaModificacion()));
+        if (curso.cuerpo() == null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDAR).build();
+        }
+
+        return ResponseEntity.ok().cacheControl(REVALIDAR).body(curso.cuerpo());
     }
 
     @Operation(
@@ -115,16 +137,50 @@ public class CursoController {
     public ResponseEntity<Page<CursoResponseDTO>> listarCursos(
             @Parameter(description = "Parámetros de paginación y ordenamiento", example = "page=0&size=10&sort=nombre,asc")
             @PageableDefault(sort = "nombre", direction = Sort.Direction.ASC) final Pageable pageable) {
-        log.info("Listando cursos con paginacion: {}", pageable);
+        log.debug("Listando cursos con paginacion: {}", pageable);
 
         final Page<CursoResponseDTO> response = cursoService.listarCursos(pageable);
 
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "Listar cursos por cursor",
+            description = "Retorna los cursos activos ordenados por nombre usando paginación por cursor (keyset). " +
+                    "No calcula el total de elementos, por lo que su costo no crece con la profundidad de la página."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página de cursos recuperada exitosamente"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "No autenticado"
+            )
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<CursoResponseDTO>> listarCursosPorCursor(
+            @Parameter(description = "Cursor opaco devuelto en nextCursor/previousCursor (omitir para la primera página)")
+            @RequestParam(required = false) final String cursor,
+            @Parameter(description = "Cantidad de elementos por página (máximo 100)", example = "10")
+            @RequestParam(required = false) final Integer size) {
+        log.debug("Listando cursos por cursor con tamaño: {}", size);
+
+        final CursorPageDTO<CursoResponseDTO> response = cursoService.listarCursosPorCursor(cursor, size);
+
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "Actualizar curso",
-            description = "Actualiza la información de un curso existente."
+            description = "Actualiza la información de un curso existente. Con If-Match (el ETag de GET /cursos/{id}) " +
+                    "la actualización solo se aplica si nadie modificó el curso desde esa lectura."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -145,18 +201,34 @@ public class CursoController {
                     responseCode = "404",
                     description = "Curso no encontrado",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "El curso cambió durante la actualización",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match no coincide con la versión actual",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
             )
     })
     @PutMapping("/{id}")
     public ResponseEntity<CursoResponseDTO> actualizarCurso(
             @Parameter(description = "ID del curso a actualizar", example = "1")
             @PathVariable final Long id,
+            @Parameter(description = "ETag obtenido en GET /cursos/{id}", example = "\"2\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
             @RequestBody @Valid final CursoUpdateDTO updateDTO) {
-        log.info("Actualizando curso con id: {}", id);
+        log.debug("Actualizando curso con id: {}", id);
 
-        final CursoResponseDTO response = cursoService.actualizarCurso(id, updateDTO);
-        log.info("Curso actualizado exitosamente con id: {}", id);
-        return ResponseEntity.ok(response);
+        final Versionado<CursoResponseDTO> actualizado =
+                cursoService.actualizarCurso(id, updateDTO, VersionRecurso.versionEsperada(ifMatch));
+        log.debug("Curso actualizado exitosamente con id: {}", id);
+        return ResponseEntity.ok()
+                .eTag(actualizado.version().etag())
+                .cacheControl(REVALIDAR)
+                .body(actualizado.cuerpo());
     }
 
     @Operation(
@@ -182,10 +254,10 @@ public class CursoController {
     public ResponseEntity<Void> eliminarCurso(
             @Parameter(description = "ID del curso a eliminar", example = "1")
             @PathVariable final Long id) {
-        log.info("Eliminando curso con id: {}", id);
+        log.debug("Eliminando curso con id: {}", id);
         cursoService.eliminarCurso(id);
 
-        log.info("Curso eliminado exitosamente con id: {}", id);
+        log.debug("Curso eliminado exitosamente con id: {}", id);
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,217 @@
+package com.foro_hub.controller;
+
+import com.foro_hub.dto.error.ErrorResponseDTO;
+import com.foro_hub.dto.pagination.CursorPageDTO;
+import com.foro_hub.dto.respuesta.RespuestaCreateDTO;
+import com.foro_hub.dto.respuesta.RespuestaResponseDTO;
+import com.foro_hub.dto.respuesta.RespuestaUpdateDTO;
+import com.foro_hub.service.RespuestaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/topicos/{topicoId}/respuestas")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Respuestas", description = "Gestión de las respuestas de un tópico (requiere autenticación)")
+@SecurityRequirement(name = "bearerAuth")
+public class RespuestaController {
+
+    private final RespuestaService respuestaService;
+
+    @Operation(
+            summary = "Responder un tópico",
+            description = "Crea una nueva respuesta en el tópico indicado. El usuario autenticado será registrado como autor."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Respuesta creada exitosamente",
+                    content = @Content(schema = @Schema(implementation = RespuestaResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "No autenticado"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Tópico no encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @PostMapping
+    public ResponseEntity<RespuestaResponseDTO> crearRespuesta(
+            @Parameter(description = "ID del tópico", example = "1")
+            @PathVariable final Long topicoId,
+            @RequestBody @Valid final RespuestaCreateDTO createDTO,
+            UriComponentsBuilder uriBuilder) {
+        log.debug("Creando nueva respuesta para el topico con id: {}", topicoId);
+        final RespuestaResponseDTO response = respuestaService.crearRespuesta(topicoId, createDTO);
+
+        URI url = uriBuilder.path("/topicos/{topicoId}/respuestas/{id}").buildAndExpand(topicoId, response.id()).toUri();
+
+        log.debug("Respuesta creada exitosamente con id: {}", response.id());
+        return ResponseEntity.created(url).body(response);
+    }
+
+    @Operation(
+            summary = "Obtener respuesta por ID",
+            description = "Retorna una respuesta específica del tópico indicado."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Respuesta encontrada",
+                    content = @Content(schema = @Schema(implementation = RespuestaResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "No autenticado"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Tópico o respuesta no encontrados",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<RespuestaResponseDTO> obtenerRespuestaPorId(
+            @Parameter(description = "ID del tópico", example = "1")
+            @PathVariable final Long topicoId,
+            @Parameter(description = "ID de la respuesta", example = "1")
+            @PathVariable final Long id) {
+        log.debug("Obteniendo respuesta con id: {} del topico con id: {}", id, topicoId);
+        final RespuestaResponseDTO response = respuestaService.obtenerRespuestaPorId(topicoId, id);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Listar respuestas de un tópico",
+            description = "Retorna las respuestas del tópico ordenadas por fecha de creación usando paginación por cursor (keyset)."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página de respuestas recuperada exitosamente"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "No autenticado"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Tópico no encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @GetMapping
+    public ResponseEntity<CursorPageDTO<RespuestaResponseDTO>> listarRespuestas(
+            @Parameter(description = "ID del tópico", example = "1")
+            @PathVariable final Long topicoId,
+            @Parameter(description = "Cursor opaco devuelto en nextCursor/previousCursor (omitir para la primera página)")
+            @RequestParam(required = false) final String cursor,
+            @Parameter(description = "Cantidad de elementos por página (máximo 100)", example = "10")
+            @RequestParam(required = false) final Integer size) {
+        log.debug("Listando respuestas del topico con id: {} por cursor con tamaño: {}", topicoId, size);
+
+        final CursorPageDTO<RespuestaResponseDTO> response = respuestaService.listarRespuestasPorCursor(topicoId, cursor, size);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Actualizar respuesta",
+            description = "Actualiza el mensaje de una respuesta y opcionalmente la marca como solución del tópico."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Respuesta actualizada exitosamente",
+                    content = @Content(schema = @Schema(implementation = RespuestaResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "No autenticado"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Tópico o respuesta no encontrados",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @PutMapping("/{id}")
+    public ResponseEntity<RespuestaResponseDTO> actualizarRespuesta(
+            @Parameter(description = "ID del tópico", example = "1")
+            @PathVariable final Long topicoId,
+            @Parameter(description = "ID de la respuesta a actualizar", example = "1")
+            @PathVariable final Long id,
+            @RequestBody @Valid final RespuestaUpdateDTO dto) {
+        log.debug("Actualizando respuesta con id: {} del topico con id: {}", id, topicoId);
+        final RespuestaResponseDTO response = respuestaService.actualizarRespuesta(topicoId, id, dto);
+
+        log.debug("Respuesta con id: {}, actualizada exitosamente", id);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Eliminar respuesta",
+            description = "Elimina una respuesta del tópico."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Respuesta eliminada exitosamente"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "No autenticado"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Tópico o respuesta no encontrados",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> eliminarRespuesta(
+            @Parameter(description = "ID del tópico", example = "1")
+            @PathVariable final Long topicoId,
+            @Parameter(description = "ID de la respuesta a eliminar", example = "1")
+            @PathVariable final Long id) {
+        log.debug("Eliminando respuesta con id: {} del topico con id: {}", id, topicoId);
+        respuestaService.eliminarRespuesta(topicoId, id);
+
+        log.debug("Respuesta con id: {}, eliminada exitosamente", id);
+        return ResponseEntity.noContent().build();
+    }
+}
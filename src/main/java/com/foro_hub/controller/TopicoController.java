@@ -1,10 +1,19 @@
 package com.foro_hub.controller;
 
+import com.foro_hub.domain.enums.StatusTopico;
 import com.foro_hub.dto.error.ErrorResponseDTO;
+import com.foro_hub.dto.pagination.CursorPageDTO;
 import com.foro_hub.dto.topico.TopicoCreateDTO;
+import com.foro_hub.dto.topico.TopicoFiltroDTO;
+import com.foro_hub.dto.topico.TopicoImportResultadoDTO;
 import com.foro_hub.dto.topico.TopicoResponseDTO;
+import com.foro_hub.dto.topico.TopicoSearchResultDTO;
 import com.foro_hub.dto.topico.TopicoUpdateDTO;
+import com.foro_hub.service.TopicoImportService;
+import com.foro_hub.service.TopicoSearchService;
 import com.foro_hub.service.TopicoService;
+import com.foro_hub.util.VersionRecurso;
+import com.foro_hub.util.Versionado;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,11 +29,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/topicos")
@@ -34,7 +52,12 @@ import java.net.URI;
 @SecurityRequirement(name = "bearerAuth")
 public class TopicoController {
 
+    // Sin esto Spring Security responde no-store y el cliente no guarda el ETag para revalidar
+    private static final CacheControl REVALIDAR = CacheControl.noCache().cachePrivate();
+
     private final TopicoService topicoService;
+    private final TopicoSearchService topicoSearchService;
+    private final TopicoImportService topicoImportService;
 
     @Operation(
             summary = "Crear nuevo tópico",
@@ -68,18 +91,51 @@ public class TopicoController {
     })
     @PostMapping
     public ResponseEntity<TopicoResponseDTO> crearTopico(@RequestBody @Valid final TopicoCreateDTO createDTO, UriComponentsBuilder uriBuilder) {
-        log.info("Creando nuevo topico con titulo: {}", createDTO.titulo());
+        log.debug("Creando nuevo topico con titulo: {}", createDTO.titulo());
         final TopicoResponseDTO response = topicoService.crearTopico(createDTO);
 
         URI url = uriBuilder.path("/topicos/{id}").buildAndExpand(response.id()).toUri();
 
-        log.info("Topico creado exitosamente con id: {}", response.id());
+        log.debug("Topico creado exitosamente con id: {}", response.id());
         return ResponseEntity.created(url).body(response);
     }
 
+    @Operation(
+            summary = "Importar tópicos en bloque",
+            description = "Crea tópicos a partir de un cuerpo NDJSON (un TopicoCreateDTO por línea), leído en streaming. " +
+                    "El usuario autenticado queda como autor de todos. Las líneas inválidas, con un curso inexistente o " +
+                    "con contenido repetido se descartan sin afectar al resto, y la respuesta informa el resultado de cada línea."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Importación procesada (ver el resultado de cada línea)",
+                    content = @Content(schema = @Schema(implementation = TopicoImportResultadoDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "No autenticado"
+            ),
+            @ApiResponse(
+                    responseCode = "415",
+                    description = "El Content-Type debe ser application/x-ndjson",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<TopicoImportResultadoDTO> importarTopicos(final InputStream ndjson) throws IOException {
+        log.debug("Importando topicos en bloque");
+        final TopicoImportResultadoDTO response = topicoImportService.importar(ndjson);
+
+        log.debug("Importacion en bloque finalizada: {} creados de {} lineas", response.creados(), response.procesados());
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "Obtener tópico por ID",
-            description = "Retorna la información detallada de un tópico específico."
+            description = "Retorna la información detallada de un tópico específico. " +
+                    "La respuesta incluye ETag y Last-Modified; con If-None-Match (o If-Modified-Since) de la versión actual " +
+                    "responde 304 sin cuerpo."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -87,6 +143,10 @@ public class TopicoController {
                     description = "Tópico encontrado",
                     content = @Content(schema = @Schema(implementation = TopicoResponseDTO.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "El cliente ya tiene la versión actual"
+            ),
             @ApiResponse(
                     responseCode = "403",
                     description = "No autenticado"
@@ -100,22 +160,37 @@ public class TopicoController {
     @GetMapping("/{id}")
     public ResponseEntity<TopicoResponseDTO> obtenerTopicoPorId(
             @Parameter(description = "ID del tópico", example = "1")
-            @PathVariable final Long id) {
-        log.info("Obteniendo topico con id: {}", id);
-        final TopicoResponseDTO response = topicoService.obtenerTopicoPorId(id);
+            @PathVariable final Long id,
+            final WebRequest request) {
+        log.debug("Obteniendo topico con id: {}", id);
 
-        return ResponseEntity.ok(response);
+        // Primero se consultan las versiones: si el cliente ya tiene la actual no se lee ni serializa el tópico
+        final Versionado<TopicoResponseDTO> topico = topicoService.obtenerTopicoPorId(id,
+                version -> request.checkNotModified(version.etag(), version.ultimaModificacion()));
+        if (topico.cuerpo() == null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDAR).build();
+        }
+
+        return ResponseEntity.ok().cacheControl(REVALIDAR).body(topico.cuerpo());
     }
 
     @Operation(
             summary = "Listar todos los tópicos",
-            description = "Retorna una lista paginada de todos los tópicos activos ordenados por fecha de creación."
+            description = "Retorna una lista paginada de todos los tópicos activos ordenados por fecha de creación. " +
+                    "Admite filtrar por curso, estado, autor y rango de fechas de creación (combinables). " +
+                    "Con sort=respuestasCount,desc devuelve los tópicos con más respuestas primero. " +
+                    "Con resumen=true el mensaje se recorta a los primeros " + TopicoService.LONGITUD_RESUMEN_MENSAJE + " caracteres."
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
                     description = "Lista de tópicos recuperada exitosamente"
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Rango de fechas inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
             @ApiResponse(
                     responseCode = "403",
                     description = "No autenticado"
@@ -123,18 +198,113 @@ public class TopicoController {
     })
     @GetMapping
     public ResponseEntity<Page<TopicoResponseDTO>> listarTopicos(
-            @Parameter(description = "Parámetros de paginación y ordenamiento", example = "page=0&size=10&sort=fechaCreacion,asc")
-            @PageableDefault(sort = "fechaCreacion", direction = Sort.Direction.ASC) final Pageable pageable) {
-        log.info("Listando topicos con paginacion: {}", pageable);
+            @Parameter(description = "Parámetros de paginación y ordenamiento", example = "page=0&size=10&sort=respuestasCount,desc")
+            @PageableDefault(sort = "fechaCreacion", direction = Sort.Direction.ASC) final Pageable pageable,
+            @Parameter(description = "Recorta el mensaje de cada tópico para listados livianos", example = "false")
+            @RequestParam(defaultValue = "false") final boolean resumen,
+            @Parameter(description = "Filtrar por curso", example = "1")
+            @RequestParam(required = false) final Long cursoId,
+            @Parameter(description = "Filtrar por estado", example = "ABIERTO")
+            @RequestParam(required = false) final StatusTopico status,
+            @Parameter(description = "Filtrar por autor", example = "1")
+            @RequestParam(required = false) final Long autorId,
+            @Parameter(description = "Creados desde esta fecha (inclusive)", example = "2026-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime fechaDesde,
+            @Parameter(description = "Creados antes de esta fecha (exclusive)", example = "2026-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime fechaHasta) {
+        if (log.isDebugEnabled()) {
+            log.debug("Listando topicos con paginacion: {}", pageable);
+        }
 
-        final Page<TopicoResponseDTO> response = topicoService.listarTopicos(pageable);
+        final TopicoFiltroDTO filtro = TopicoFiltroDTO.builder()
+                .withCursoId(cursoId)
+                .withStatus(status)
+                .withAutorId(autorId)
+                .withFechaDesde(fechaDesde)
+                .withFechaHasta(fechaHasta)
+                .build();
+        final Page<TopicoResponseDTO> response = topicoService.listarTopicos(filtro, pageable, resumen);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Listar tópicos por cursor",
+            description = "Retorna los tópicos activos ordenados por fecha de creación usando paginación por cursor (keyset). " +
+                    "No calcula el total de elementos, por lo que su costo no crece con la profundidad de la página."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página de tópicos recuperada exitosamente"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "No autenticado"
+            )
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<TopicoResponseDTO>> listarTopicosPorCursor(
+            @Parameter(description = "Cursor opaco devuelto en nextCursor/previousCursor (omitir para la primera página)")
+            @RequestParam(required = false) final String cursor,
+            @Parameter(description = "Cantidad de elementos por página (máximo 100)", example = "10")
+            @RequestParam(required = false) final Integer size) {
+        log.debug("Listando topicos por cursor con tamaño: {}", size);
+
+        final CursorPageDTO<TopicoResponseDTO> response = topicoService.listarTopicosPorCursor(cursor, size);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Buscar tópicos",
+            description = "Búsqueda full-text sobre título, mensaje y respuestas de los tópicos activos. " +
+                    "Los resultados vienen ordenados por relevancia, con los términos encontrados resaltados, " +
+                    "y se paginan por cursor (solo hacia adelante)."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Resultados de la búsqueda"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Consulta vacía o demasiado larga, o cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "No autenticado"
+            )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageDTO<TopicoSearchResultDTO>> buscarTopicos(
+            @Parameter(description = "Texto a buscar. Admite frases entre comillas, + (y), | (o) y - (excluir)", example = "spring security")
+            @RequestParam(required = false) final String q,
+            @Parameter(description = "Filtra por curso", example = "1")
+            @RequestParam(required = false) final Long cursoId,
+            @Parameter(description = "Filtra por estado del tópico", example = "ABIERTO")
+            @RequestParam(required = false) final StatusTopico status,
+            @Parameter(description = "Cursor opaco devuelto en nextCursor (omitir para la primera página)")
+            @RequestParam(required = false) final String cursor,
+            @Parameter(description = "Cantidad de elementos por página (máximo 100)", example = "10")
+            @RequestParam(required = false) final Integer size) {
+        log.debug("Buscando topicos con consulta: {}", q);
+
+        final CursorPageDTO<TopicoSearchResultDTO> response = topicoSearchService.buscar(q, cursoId, status, cursor, size);
 
         return ResponseEntity.ok(response);
     }
 
     @Operation(
             summary = "Actualizar tópico",
-            description = "Actualiza la información de un tópico existente."
+            description = "Actualiza la información de un tópico existente. Con If-Match (el ETag de GET /topicos/{id}) " +
+                    "la actualización solo se aplica si nadie modificó el tópico desde esa lectura."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -158,7 +328,12 @@ public class TopicoController {
             ),
             @ApiResponse(
                     responseCode = "409",
-                    description = "Ya existe otro tópico con el mismo título y mensaje",
+                    description = "Ya existe otro tópico con el mismo título y mensaje, o el tópico cambió durante la actualización",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match no coincide con la versión actual",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
             )
     })
@@ -166,12 +341,19 @@ public class TopicoController {
     public ResponseEntity<TopicoResponseDTO> actualizarTopico(
             @Parameter(description = "ID del tópico a actualizar", example = "1")
             @PathVariable final Long id,
+            @Parameter(description = "ETag obtenido en GET /topicos/{id}", example = "\"3.1\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
             @RequestBody @Valid final TopicoUpdateDTO dto) {
-        log.info("Actualizando topico con id: {}", id);
-        final TopicoResponseDTO response = topicoService.actualizarTopico(id, dto);
+        log.debug("Actualizando topico con id: {}", id);
+        // El nuevo ETag permite encadenar otra edición condicional sin volver a leer el tópico
+        final Versionado<TopicoResponseDTO> actualizado =
+                topicoService.actualizarTopico(id, dto, VersionRecurso.versionEsperada(ifMatch));
 
-        log.info("Topico con id: {}, actualizado exitosamente", id);
-        return ResponseEntity.ok(response);
+        log.debug("Topico con id: {}, actualizado exitosamente", id);
+        return ResponseEntity.ok()
+                .eTag(actualizado.version().etag())
+                .cacheControl(REVALIDAR)
+                .body(actualizado.cuerpo());
     }
 
     @Operation(
@@ -197,10 +379,10 @@ public class TopicoController {
     public ResponseEntity<Void> eliminarTopico(
             @Parameter(description = "ID del tópico a eliminar", example = "1")
             @PathVariable final Long id) {
-        log.info("Eliminando topico con id: {}", id);
+        log.debug("Eliminando topico con id: {}", id);
         topicoService.eliminarTopico(id);
 
-        log.info("Topico con id: {}, eliminado exitosamente", id);
+        log.debug("Topico con id: {}, eliminado exitosamente", id);
         return ResponseEntity.noContent().build();
     }
 }
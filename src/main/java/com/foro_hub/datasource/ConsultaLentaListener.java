@@ -0,0 +1,104 @@
+package com.foro_hub.datasource;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Reemplaza a spring.jpa.show-sql: cuenta cada sentencia para ContadorSentencias y solo loguea las que tardan al
+// menos umbralMs, una línea JSON por sentencia en el logger foro_hub.sql.lentas (se puede mandar a su propio archivo).
+// Las filas solo se informan para INSERT/UPDATE/DELETE (las devuelve el driver): contar las de un SELECT obliga a
+// envolver cada ResultSet en un proxy y paga una llamada reflexiva por fila en todas las consultas, no solo en las lentas
+public class ConsultaLentaListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger("foro_hub.sql.lentas");
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final String PAQUETE_APLICACION = "com.foro_hub.";
+    private static final String PAQUETE_SERVICIOS = "com.foro_hub.service.";
+
+    private final long umbralMs;
+
+    public ConsultaLentaListener(final long umbralMs) {
+        this.umbralMs = umbralMs;
+    }
+
+    @Override
+    public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        ContadorSentencias.registrar();
+
+        if (execInfo.getElapsedTime() < umbralMs) {
+            return;
+        }
+
+        registrar(ConsultaLenta.builder()
+                .withDuracionMs(execInfo.getElapsedTime())
+                .withSql(queryInfoList.stream().map(QueryInfo::getQuery).distinct().collect(Collectors.joining("; ")))
+                .withLote(execInfo.isBatch() ? execInfo.getBatchSize() : null)
+                .withBinds(queryInfoList.stream()
+                        .flatMap(query -> query.getParametersList().stream())
+                        .mapToInt(List::size)
+                        .sum())
+                .withFilas(filasAfectadas(execInfo.getResult()))
+                .withOrigen(origen())
+                .withExito(execInfo.isSuccess())
+                .build());
+    }
+
+    private static Long filasAfectadas(final Object resultado) {
+        if (resultado instanceof Number filas) {
+            return filas.longValue();
+        }
+        if (resultado instanceof int[] filas) {
+            return Arrays.stream(filas).filter(fila -> fila >= 0).asLongStream().sum();
+        }
+        if (resultado instanceof long[] filas) {
+            return Arrays.stream(filas).filter(fila -> fila >= 0).sum();
+        }
+        return null;
+    }
+
+    // Se recorre la pila solo para las consultas lentas: el método de servicio que la originó o, si no pasa por un
+    // servicio (filtros, tareas programadas), la primera clase de la aplicación. Se salta los proxies de Spring
+    private static String origen() {
+        return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).walk(frames -> {
+            final List<StackWalker.StackFrame> propios = frames
+                    .filter(frame -> frame.getClassName().startsWith(PAQUETE_APLICACION))
+                    .filter(frame -> frame.getDeclaringClass() != ConsultaLentaListener.class)
+                    .filter(frame -> !frame.getClassName().contains("$$"))
+                    .toList();
+            return propios.stream()
+                    .filter(frame -> frame.getClassName().startsWith(PAQUETE_SERVICIOS))
+                    .findFirst()
+                    .or(() -> propios.stream().findFirst())
+                    .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                            + "." + frame.getMethodName())
+                    .orElse(null);
+        });
+    }
+
+    private static void registrar(final ConsultaLenta consulta) {
+        try {
+            log.warn(JSON.writeValueAsString(consulta));
+        } catch (JsonProcessingException e) {
+            log.warn("Consulta lenta de {} ms: {}", consulta.duracionMs(), consulta.sql());
+        }
+    }
+
+    @Builder(setterPrefix = "with")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record ConsultaLenta(long duracionMs, String sql, Integer lote, int binds, Long filas, String origen, boolean exito) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.foro_hub.datasource;
+
+// Sentencias ejecutadas por el hilo del request en curso (SentenciasPorRequestFilter). Fuera de un request
+// (tareas programadas, arranque) no hay contador y registrar no hace nada
+public final class ContadorSentencias {
+
+    private static final ThreadLocal<int[]> SENTENCIAS = new ThreadLocal<>();
+
+    private ContadorSentencias() {
+    }
+
+    public static void iniciar() {
+        SENTENCIAS.set(new int[1]);
+    }
+
+    public static void registrar() {
+        final int[] sentencias = SENTENCIAS.get();
+        if (sentencias != null) {
+            sentencias[0]++;
+        }
+    }
+
+    public static int finalizar() {
+        final int[] sentencias = SENTENCIAS.get();
+        SENTENCIAS.remove();
+        return sentencias == null ? 0 : sentencias[0];
+    }
+}
@@ -0,0 +1,129 @@
+package com.foro_hub.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+// Conexiones de las transacciones readOnly: van a la réplica mientras responda y su atraso no supere maxLag; si no,
+// al primario. El atraso se mide con replicacion_latido: cada verificación escribe la hora actual en el primario y
+// lee la última que llegó a la réplica, así que se mide con la resolución del intervalo de verificación
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements Closeable {
+
+    private static final String ESCRIBIR_LATIDO = "UPDATE replicacion_latido SET fecha = ? WHERE id = 1";
+    private static final String LEER_LATIDO = "SELECT fecha FROM replicacion_latido WHERE id = 1";
+    private static final int TIMEOUT_VERIFICACION_SEGUNDOS = 2;
+
+    private final DataSource primario;
+    private final DataSource replica;
+    private final Duration maxLag;
+
+    private volatile boolean disponible;
+    private volatile Duration lag = Duration.ZERO;
+
+    public ReplicaDataSource(final DataSource primario, final DataSource replica, final Duration maxLag) {
+        this.primario = primario;
+        this.replica = replica;
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (disponible) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                // No esperar a la próxima verificación: las lecturas siguientes van directo al primario
+                marcarNoDisponible("no entrega conexiones: " + e.getMessage());
+            }
+        }
+        return primario.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("ReplicaDataSource usa las credenciales configuradas de cada pool");
+    }
+
+    @Scheduled(fixedDelayString = "${api.datasource.replica.verificacion-ms:1000}")
+    public void verificar() {
+        try {
+            escribirLatido();
+        } catch (SQLException e) {
+            // Sin latido nuevo el lag medido crece solo, y si pasa maxLag las lecturas vuelven al primario
+            log.warn("[ForoHub/Replica] - No se pudo registrar el latido en el primario: {}", e.getMessage());
+        }
+
+        final Instant ultimoLatido;
+        try {
+            ultimoLatido = leerLatido();
+        } catch (SQLException e) {
+            marcarNoDisponible("no responde: " + e.getMessage());
+            return;
+        }
+
+        lag = Duration.between(ultimoLatido, Instant.now());
+        if (lag.compareTo(maxLag) > 0) {
+            marcarNoDisponible("atrasada " + lag.toMillis() + " ms");
+        } else if (!disponible) {
+            disponible = true;
+            log.info("[ForoHub/Replica] - Réplica disponible (lag {} ms), las lecturas vuelven a la réplica", lag.toMillis());
+        }
+    }
+
+    public boolean isDisponible() {
+        return disponible;
+    }
+
+    public Duration getLag() {
+        return lag;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (replica instanceof Closeable pool) {
+            pool.close();
+        }
+    }
+
+    private void escribirLatido() throws SQLException {
+        try (Connection connection = primario.getConnection();
+             PreparedStatement update = connection.prepareStatement(ESCRIBIR_LATIDO)) {
+            update.setQueryTimeout(TIMEOUT_VERIFICACION_SEGUNDOS);
+            update.setTimestamp(1, Timestamp.from(Instant.now()));
+            update.executeUpdate();
+        }
+    }
+
+    private Instant leerLatido() throws SQLException {
+        try (Connection connection = replica.getConnection();
+             PreparedStatement select = connection.prepareStatement(LEER_LATIDO)) {
+            select.setQueryTimeout(TIMEOUT_VERIFICACION_SEGUNDOS);
+            try (ResultSet resultado = select.executeQuery()) {
+                if (!resultado.next()) {
+                    throw new SQLException("La réplica no tiene la fila de replicacion_latido");
+                }
+                return resultado.getTimestamp(1).toInstant();
+            }
+        }
+    }
+
+    private void marcarNoDisponible(final String motivo) {
+        if (disponible) {
+            disponible = false;
+            log.warn("[ForoHub/Replica] - Réplica {}, las lecturas pasan al primario", motivo);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.foro_hub.datasource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Sentencias SQL por request, publicadas como db.statements.per.request por endpoint. Un endpoint cuyo conteo crece
+// con el tamaño de la página tiene un N+1; los requests que pasan de umbralAlerta se loguean con su conteo
+@Slf4j
+public class SentenciasPorRequestFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "db.statements.per.request";
+
+    private final MeterRegistry meterRegistry;
+    private final int umbralAlerta;
+
+    public SentenciasPorRequestFilter(final MeterRegistry meterRegistry, final int umbralAlerta) {
+        this.meterRegistry = meterRegistry;
+        this.umbralAlerta = umbralAlerta;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull final HttpServletRequest request,
+                                    @NonNull final HttpServletResponse response,
+                                    @NonNull final FilterChain filterChain) throws ServletException, IOException {
+        ContadorSentencias.iniciar();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            final int sentencias = ContadorSentencias.finalizar();
+            final Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            final String uri = patron != null ? patron.toString() : "UNKNOWN";
+
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("Sentencias SQL ejecutadas por request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(sentencias);
+
+            if (sentencias > umbralAlerta) {
+                log.warn("[ForoHub/SQL] - {} {} ejecutó {} sentencias SQL (posible N+1)", request.getMethod(), uri, sentencias);
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.proxy.HibernateProxy;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -19,7 +20,7 @@ import java.util.Objects;
 public class Curso {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @IdEnBloque("cursos")
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -32,6 +33,19 @@ public class Curso {
     @Builder.Default
     private Boolean activo = true;
 
+    // ETag de GET /cursos/{id} (y parte del de cada tópico del curso)
+    @Version
+    private Long version;
+
+    @Column(name = "fecha_modificacion", nullable = false)
+    private LocalDateTime fechaModificacion;
+
+    @PrePersist
+    @PreUpdate
+    void antesDeGuardar() {
+        this.fechaModificacion = LocalDateTime.now();
+    }
+
     @Override
     public final boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,18 @@
+package com.foro_hub.domain;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+
+// Id tomado de la tabla secuencias_id en bloques (ver IdEnBloqueGenerator). value es la fila de la entidad
+@IdGeneratorType(IdEnBloqueGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target(FIELD)
+public @interface IdEnBloque {
+
+    String value();
+}
@@ -0,0 +1,43 @@
+package com.foro_hub.domain;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+// Con IDENTITY Hibernate necesita el id al persistir, así que ejecuta cada INSERT en el momento y no puede agruparlos
+// en batch. Este generador reserva bloques de ids en secuencias_id (una fila por entidad; MySQL no tiene secuencias)
+// y los entrega desde memoria: una lectura y un UPDATE de la tabla cada tamanio_bloque inserts.
+// Optimizador pooled-lo: la fila guarda el primer id del próximo bloque, así V16 la inicializa con MAX(id) + 1 y
+// cambiar el tamaño del bloque no genera ids repetidos
+public class IdEnBloqueGenerator extends TableGenerator {
+
+    public static final String TAMANIO_BLOQUE = "foro_hub.id.tamanio_bloque";
+    private static final int TAMANIO_BLOQUE_DEFAULT = 100;
+
+    private final String entidad;
+
+    public IdEnBloqueGenerator(final IdEnBloque config) {
+        this.entidad = config.value();
+    }
+
+    @Override
+    public void configure(final Type type, final Properties parametros, final ServiceRegistry serviceRegistry) {
+        final int tamanioBloque = serviceRegistry.requireService(ConfigurationService.class)
+                .getSetting(TAMANIO_BLOQUE, StandardConverters.INTEGER, TAMANIO_BLOQUE_DEFAULT);
+
+        parametros.put(TABLE_PARAM, "secuencias_id");
+        parametros.put(SEGMENT_COLUMN_PARAM, "entidad");
+        parametros.put(VALUE_COLUMN_PARAM, "siguiente");
+        parametros.put(SEGMENT_VALUE_PARAM, entidad);
+        parametros.put(OptimizableGenerator.INITIAL_PARAM, "1");
+        parametros.put(OptimizableGenerator.INCREMENT_PARAM, String.valueOf(tamanioBloque));
+        parametros.put(OptimizableGenerator.OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, parametros, serviceRegistry);
+    }
+}
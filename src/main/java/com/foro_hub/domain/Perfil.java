@@ -19,7 +19,7 @@ import java.util.Set;
 public class Perfil {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @IdEnBloque("perfiles")
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -17,7 +17,7 @@ import java.util.Objects;
 public class Respuesta {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @IdEnBloque("respuestas")
     private Long id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -39,6 +39,10 @@ public class Respuesta {
     @Builder.Default
     private Boolean solucion = false;
 
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean activo = true;
+
     @Override
     public final boolean equals(Object o) {
         if (this == o) return true;
@@ -1,6 +1,7 @@
 package com.foro_hub.domain;
 
 import com.foro_hub.domain.enums.StatusTopico;
+import com.foro_hub.util.ContenidoHashUtils;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.proxy.HibernateProxy;
@@ -20,7 +21,7 @@ import java.util.Objects;
 public class Topico {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @IdEnBloque("topicos")
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -54,6 +55,54 @@ public class Topico {
     @Builder.Default
     private Boolean activo = true;
 
+    @Column(name = "contenido_hash", length = 64, unique = true)
+    private String contenidoHash;
+
+    // Contadores desnormalizados: solo los modifican los UPDATE atómicos de TopicoRepository,
+    // así un flush de la entidad nunca pisa un incremento concurrente con un valor viejo
+    @Column(name = "respuestas_count", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    private Integer respuestasCount = 0;
+
+    @Column(name = "soluciones_count", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    private Integer solucionesCount = 0;
+
+    @Column(name = "ultima_respuesta_fecha", insertable = false, updatable = false)
+    private LocalDateTime ultimaRespuestaFecha;
+
+    // ETag de GET /topicos/{id}. La incrementa JPA al actualizar la entidad y los UPDATE VERSIONED de contadores
+    @Version
+    private Long version;
+
+    @Column(name = "fecha_modificacion", nullable = false)
+    private LocalDateTime fechaModificacion;
+
+    @PrePersist
+    void antesDeInsertar() {
+        this.contenidoHash = ContenidoHashUtils.calcular(titulo, mensaje);
+        this.fechaModificacion = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    void antesDeActualizar() {
+        this.fechaModificacion = LocalDateTime.now();
+    }
+
+    // El hash solo se recalcula si cambió el contenido: un tópico histórico duplicado (hash NULL, ver V10) que se
+    // edita sin tocar título ni mensaje lo conserva en NULL, porque completarlo chocaría con uk_topicos_contenido_hash.
+    // Con contenido nuevo (ya validado contra duplicados por el servicio) el hash se guarda siempre, así la fila
+    // vuelve a quedar cubierta por el índice único
+    public void cambiarContenido(final String titulo, final String mensaje) {
+        if (Objects.equals(this.titulo, titulo) && Objects.equals(this.mensaje, mensaje)) {
+            return;
+        }
+
+        this.titulo = titulo;
+        this.mensaje = mensaje;
+        this.contenidoHash = ContenidoHashUtils.calcular(titulo, mensaje);
+    }
+
     @Override
     public final boolean equals(Object o) {
         if (this == o) return true;
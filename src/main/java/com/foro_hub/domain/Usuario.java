@@ -1,5 +1,6 @@
 package com.foro_hub.domain;
 
+import com.foro_hub.security.UsuarioCacheListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.proxy.HibernateProxy;
@@ -12,6 +13,7 @@ import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "usuarios")
+@EntityListeners(UsuarioCacheListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,7 +22,7 @@ import java.util.stream.Collectors;
 public class Usuario implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @IdEnBloque("usuarios")
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -45,6 +47,11 @@ public class Usuario implements UserDetails {
     @Builder.Default
     private Boolean activo = true;
 
+    // Un cambio solo en usuario_perfil es una actualización de la colección, no de la fila: con @Version también
+    // incrementa la versión del usuario y dispara @PostUpdate, así UsuarioCacheListener invalida los roles cacheados
+    @Version
+    private Long version;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return perfiles.stream()
@@ -0,0 +1,23 @@
+package com.foro_hub.dto.pagination;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder(setterPrefix = "with")
+@Schema(description = "Página de resultados navegable por cursor (keyset), sin conteo total")
+public record CursorPageDTO<T>(
+        @Schema(description = "Elementos de la página actual")
+        List<T> content,
+
+        @Schema(description = "Cantidad máxima de elementos solicitados", example = "10")
+        int size,
+
+        @Schema(description = "Cursor opaco para obtener la página siguiente (null si no hay más resultados)", example = "TnwyMDI2LTAyLTA0VDE1OjMwOjAwfDQy")
+        String nextCursor,
+
+        @Schema(description = "Cursor opaco para obtener la página anterior (null si es la primera página)", example = "UHwyMDI2LTAyLTA0VDE1OjMwOjAwfDMz")
+        String previousCursor
+) {
+}
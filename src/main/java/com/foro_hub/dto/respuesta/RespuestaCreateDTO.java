@@ -0,0 +1,14 @@
+package com.foro_hub.dto.respuesta;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Builder;
+
+@Builder(setterPrefix = "with")
+@Schema(description = "Datos necesarios para responder un tópico")
+public record RespuestaCreateDTO(
+        @Schema(description = "Mensaje de la respuesta", example = "Tenés que registrar el filtro JWT antes de UsernamePasswordAuthenticationFilter...")
+        @NotBlank(message = "El mensaje es obligatorio")
+        String mensaje
+) {
+}
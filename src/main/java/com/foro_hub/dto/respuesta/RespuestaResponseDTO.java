@@ -0,0 +1,26 @@
+package com.foro_hub.dto.respuesta;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder(setterPrefix = "with")
+@Schema(description = "Información de una respuesta a un tópico")
+public record RespuestaResponseDTO(
+        @Schema(description = "ID único de la respuesta", example = "1")
+        Long id,
+
+        @Schema(description = "ID del tópico respondido", example = "1")
+        Long topicoId,
+
+        @Schema(description = "Mensaje de la respuesta", example = "Tenés que registrar el filtro JWT antes de UsernamePasswordAuthenticationFilter...")
+        String mensaje,
+
+        @Schema(description = "Fecha y hora de creación de la respuesta", example = "2026-02-04T16:00:00")
+        LocalDateTime fechaCreacion,
+
+        @Schema(description = "Indica si la respuesta fue marcada como solución", example = "false")
+        Boolean solucion
+) {
+}
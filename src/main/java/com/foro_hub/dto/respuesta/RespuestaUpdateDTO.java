@@ -0,0 +1,17 @@
+package com.foro_hub.dto.respuesta;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Builder;
+
+@Builder(setterPrefix = "with")
+@Schema(description = "Datos necesarios para actualizar una respuesta")
+public record RespuestaUpdateDTO(
+        @Schema(description = "Mensaje actualizado de la respuesta", example = "Tenés que registrar el filtro JWT antes de UsernamePasswordAuthenticationFilter y deshabilitar CSRF...")
+        @NotBlank(message = "El mensaje es obligatorio")
+        String mensaje,
+
+        @Schema(description = "Marca la respuesta como solución del tópico (el tópico pasa a RESUELTO)", example = "true")
+        Boolean solucion
+) {
+}
@@ -3,6 +3,7 @@ package com.foro_hub.dto.topico;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Builder;
 
 @Builder(setterPrefix = "with")
@@ -10,6 +11,7 @@ import lombok.Builder;
 public record TopicoCreateDTO(
         @Schema(description = "Título del tópico", example = "¿Cómo usar Spring Security con JWT?")
         @NotBlank(message = "El titulo es obligatorio")
+        @Size(max = 200, message = "El titulo no debe exceder 200 caracteres")
         String titulo,
 
         @Schema(description = "Mensaje o contenido del tópico", example = "Estoy intentando implementar autenticación JWT en mi proyecto Spring Boot pero no logro configurarlo correctamente...")
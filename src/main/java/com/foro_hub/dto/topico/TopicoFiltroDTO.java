@@ -0,0 +1,17 @@
+package com.foro_hub.dto.topico;
+
+import com.foro_hub.domain.enums.StatusTopico;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+// Filtros opcionales de GET /topicos; un campo null no restringe el listado
+@Builder(setterPrefix = "with")
+public record TopicoFiltroDTO(
+        Long cursoId,
+        StatusTopico status,
+        Long autorId,
+        LocalDateTime fechaDesde,
+        LocalDateTime fechaHasta
+) {
+}
@@ -0,0 +1,26 @@
+package com.foro_hub.dto.topico;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder(setterPrefix = "with")
+@Schema(description = "Resultado de importar una línea del archivo NDJSON")
+public record TopicoImportItemDTO(
+        @Schema(description = "Número de línea en el archivo (empieza en 1)", example = "3")
+        int linea,
+
+        @Schema(description = "Resultado de la línea", example = "CREADO")
+        Resultado resultado,
+
+        @Schema(description = "ID del tópico creado (solo si resultado es CREADO)", example = "120")
+        Long id,
+
+        @Schema(description = "Motivo por el que la línea no se importó", example = "El titulo es obligatorio")
+        String detalle
+) {
+    public enum Resultado {
+        CREADO,
+        DUPLICADO,
+        INVALIDO
+    }
+}
@@ -0,0 +1,26 @@
+package com.foro_hub.dto.topico;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder(setterPrefix = "with")
+@Schema(description = "Resumen de una importación masiva de tópicos")
+public record TopicoImportResultadoDTO(
+        @Schema(description = "Líneas procesadas (sin contar las vacías)", example = "50000")
+        int procesados,
+
+        @Schema(description = "Tópicos creados", example = "49800")
+        int creados,
+
+        @Schema(description = "Líneas descartadas por repetir el contenido de un tópico existente o de otra línea", example = "150")
+        int duplicados,
+
+        @Schema(description = "Líneas con JSON o datos inválidos, o con un curso inexistente", example = "50")
+        int invalidos,
+
+        @Schema(description = "Resultado de cada línea, en el orden del archivo")
+        List<TopicoImportItemDTO> resultados
+) {
+}
@@ -22,7 +22,25 @@ public record TopicoResponseDTO(
     LocalDateTime fechaCreacion,
     
     @Schema(description = "Estado actual del tópico", example = "ABIERTO")
-    StatusTopico status
+    StatusTopico status,
+
+    @Schema(description = "Cantidad de respuestas del tópico", example = "3")
+    Integer cantidadRespuestas,
+
+    @Schema(description = "Indica si alguna respuesta fue marcada como solución", example = "false")
+    Boolean tieneSolucion,
+
+    @Schema(description = "Fecha y hora de la última respuesta (null si no tiene respuestas)", example = "2026-02-05T10:15:00")
+    LocalDateTime ultimaRespuestaFecha,
+
+    @Schema(description = "Nombre del autor del tópico", example = "Juan Pérez")
+    String autorNombre,
+
+    @Schema(description = "Nombre del curso del tópico", example = "Spring Boot Avanzado")
+    String cursoNombre,
+
+    @Schema(description = "Categoría del curso del tópico", example = "Backend")
+    String cursoCategoria
 ) {
 }
 
@@ -0,0 +1,33 @@
+package com.foro_hub.dto.topico;
+
+import com.foro_hub.domain.enums.StatusTopico;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder(setterPrefix = "with")
+@Schema(description = "Tópico encontrado por la búsqueda full-text, con los términos resaltados")
+public record TopicoSearchResultDTO(
+        @Schema(description = "ID único del tópico", example = "1")
+        Long id,
+
+        @Schema(description = "Título del tópico (HTML escapado, términos encontrados entre <mark>)", example = "¿Cómo usar <mark>Spring</mark> Security con JWT?")
+        String titulo,
+
+        @Schema(description = "Fragmento del mensaje (HTML escapado, términos encontrados entre <mark>)", example = "Estoy intentando implementar autenticación <mark>JWT</mark>...")
+        String fragmento,
+
+        @Schema(description = "Relevancia del resultado (BM25); los resultados vienen ordenados de mayor a menor", example = "3.42")
+        Float score,
+
+        @Schema(description = "Estado actual del tópico", example = "ABIERTO")
+        StatusTopico status,
+
+        @Schema(description = "Nombre del curso del tópico", example = "Spring Boot Avanzado")
+        String cursoNombre,
+
+        @Schema(description = "Fecha y hora de creación del tópico", example = "2026-02-04T15:30:00")
+        LocalDateTime fechaCreacion
+) {
+}
@@ -3,7 +3,11 @@ package com.foro_hub.exception;
 import com.foro_hub.dto.error.ErrorResponseDTO;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -42,6 +46,61 @@ public class GlobalExceptionHandler {
                 null);
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponseDTO> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        log.warn("Violación de integridad de datos: {}", ex.getMostSpecificCause().getMessage());
+        return buildErrorResponse(
+                HttpStatus.CONFLICT,
+                "La operación entra en conflicto con datos existentes",
+                null);
+    }
+
+    // Otra escritura confirmó una versión nueva entre la lectura y el commit (y no correspondía reintentar)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponseDTO> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.warn("Conflicto de versión: {}", ex.getMessage());
+        return buildErrorResponse(
+                HttpStatus.CONFLICT,
+                "El recurso fue modificado por otra solicitud. Volvé a consultarlo y reintentá la operación.",
+                null);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponseDTO> handlePreconditionFailed(PreconditionFailedException ex) {
+        log.warn("Precondición If-Match fallida: {}", ex.getMessage());
+        return buildErrorResponse(
+                HttpStatus.PRECONDITION_FAILED,
+                ex.getMessage(),
+                null);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponseDTO> handleInvalidCursor(InvalidCursorException ex) {
+        log.warn("Cursor de paginación inválido: {}", ex.getMessage());
+        return buildErrorResponse(
+                HttpStatus.BAD_REQUEST,
+                ex.getMessage(),
+                null);
+    }
+
+    @ExceptionHandler(InvalidSearchQueryException.class)
+    public ResponseEntity<ErrorResponseDTO> handleInvalidSearchQuery(InvalidSearchQueryException ex) {
+        log.warn("Consulta de búsqueda inválida: {}", ex.getMessage());
+        return buildErrorResponse(
+                HttpStatus.BAD_REQUEST,
+                ex.getMessage(),
+                null);
+    }
+
+    @ExceptionHandler(InvalidFilterException.class)
+    public ResponseEntity<ErrorResponseDTO> handleInvalidFilter(InvalidFilterException ex) {
+        log.warn("Filtro de listado inválido: {}", ex.getMessage());
+        return buildErrorResponse(
+                HttpStatus.BAD_REQUEST,
+                ex.getMessage(),
+                null);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponseDTO> handleValidationExceptions(MethodArgumentNotValidException ex) {
         log.warn("Error de validación en los datos de entrada");
@@ -73,7 +132,10 @@ public class GlobalExceptionHandler {
         log.warn("Media Type no soportado: {}", ex.getContentType());
         return buildErrorResponse(
                 HttpStatus.UNSUPPORTED_MEDIA_TYPE,
-                "El Content-Type debe ser JSON",
+                // POST /topicos/bulk espera NDJSON; el resto de los endpoints, JSON
+                ex.getSupportedMediaTypes().isEmpty()
+                        ? "El Content-Type debe ser JSON"
+                        : "El Content-Type debe ser " + MediaType.toString(ex.getSupportedMediaTypes()),
                 null);
     }
 
@@ -97,6 +159,19 @@ public class GlobalExceptionHandler {
 
     // --- (5xx) - LOG LEVEL: ERROR ---
 
+    // Saturación esperada ante picos de login/registro: se loguea como WARN para no inundar los logs
+    @ExceptionHandler(PasswordHashingOverloadException.class)
+    public ResponseEntity<ErrorResponseDTO> handlePasswordHashingOverload(PasswordHashingOverloadException ex) {
+        log.warn("Servicio de autenticación saturado: {}", ex.getMessage());
+        ResponseEntity<ErrorResponseDTO> response = buildErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                ex.getMessage(),
+                null);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDTO> handleGlobalException(Exception ex) {
         log.error("Error interno inesperado: ", ex);
@@ -0,0 +1,7 @@
+package com.foro_hub.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.foro_hub.exception;
+
+public class InvalidFilterException extends RuntimeException {
+    public InvalidFilterException(final String message) {
+        super(message);
+    }
+}
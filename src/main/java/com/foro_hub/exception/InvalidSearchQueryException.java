@@ -0,0 +1,7 @@
+package com.foro_hub.exception;
+
+public class InvalidSearchQueryException extends RuntimeException {
+    public InvalidSearchQueryException(final String message) {
+        super(message);
+    }
+}
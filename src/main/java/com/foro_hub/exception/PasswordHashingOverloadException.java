@@ -0,0 +1,14 @@
+package com.foro_hub.exception;
+
+import lombok.Getter;
+
+@Getter
+public class PasswordHashingOverloadException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingOverloadException(final String message, final long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
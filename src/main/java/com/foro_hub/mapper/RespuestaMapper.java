@@ -0,0 +1,49 @@
+package com.foro_hub.mapper;
+
+import com.foro_hub.domain.Respuesta;
+import com.foro_hub.domain.Topico;
+import com.foro_hub.domain.Usuario;
+import com.foro_hub.dto.respuesta.RespuestaCreateDTO;
+import com.foro_hub.dto.respuesta.RespuestaResponseDTO;
+import com.foro_hub.dto.respuesta.RespuestaUpdateDTO;
+
+public class RespuestaMapper {
+
+    public static Respuesta toEntity(final RespuestaCreateDTO dto, final Topico topico, final Usuario autor) {
+        if (dto == null) {
+            return null;
+        }
+
+        return Respuesta.builder()
+                .withMensaje(dto.mensaje())
+                .withTopico(topico)
+                .withAutor(autor)
+                .build();
+    }
+
+    public static RespuestaResponseDTO toResponseDTO(final Respuesta respuesta) {
+        if (respuesta == null) {
+            return null;
+        }
+
+        return RespuestaResponseDTO.builder()
+                .withId(respuesta.getId())
+                .withTopicoId(respuesta.getTopico().getId())
+                .withMensaje(respuesta.getMensaje())
+                .withFechaCreacion(respuesta.getFechaCreacion())
+                .withSolucion(respuesta.getSolucion())
+                .build();
+    }
+
+    public static void updateEntityFromDTO(final Respuesta respuesta, final RespuestaUpdateDTO dto) {
+        if (respuesta == null || dto == null) {
+            return;
+        }
+
+        respuesta.setMensaje(dto.mensaje());
+
+        if (dto.solucion() != null) {
+            respuesta.setSolucion(dto.solucion());
+        }
+    }
+}
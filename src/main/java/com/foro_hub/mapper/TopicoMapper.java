@@ -27,12 +27,28 @@ public class TopicoMapper {
             return null;
         }
 
+        return toResponseDTO(topico, topico.getAutor() != null ? topico.getAutor().getNombre() : null);
+    }
+
+    // El nombre del autor llega aparte cuando autor es una referencia sin inicializar (getReferenceById):
+    // leerlo de la entidad dispararía el SELECT de usuarios y perfiles que la referencia evitó
+    public static TopicoResponseDTO toResponseDTO(final Topico topico, final String autorNombre) {
+        if (topico == null) {
+            return null;
+        }
+
         return TopicoResponseDTO.builder()
                 .withId(topico.getId())
                 .withTitulo(topico.getTitulo())
                 .withMensaje(topico.getMensaje())
                 .withFechaCreacion(topico.getFechaCreacion())
                 .withStatus(topico.getStatus())
+                .withCantidadRespuestas(topico.getRespuestasCount())
+                .withTieneSolucion(topico.getSolucionesCount() > 0)
+                .withUltimaRespuestaFecha(topico.getUltimaRespuestaFecha())
+                .withAutorNombre(autorNombre)
+                .withCursoNombre(topico.getCurso() != null ? topico.getCurso().getNombre() : null)
+                .withCursoCategoria(topico.getCurso() != null ? topico.getCurso().getCategoria() : null)
                 .build();
     }
 
@@ -41,8 +57,7 @@ public class TopicoMapper {
             return;
         }
 
-        topico.setTitulo(dto.titulo());
-        topico.setMensaje(dto.mensaje());
+        topico.cambiarContenido(dto.titulo(), dto.mensaje());
 
         if (dto.status() != null) {
             topico.setStatus(dto.status());
@@ -1,14 +1,48 @@
 package com.foro_hub.repository;
 
 import com.foro_hub.domain.Curso;
+import com.foro_hub.dto.curso.CursoResponseDTO;
+import com.foro_hub.repository.projection.CursoVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CursoRepository extends JpaRepository<Curso, Long> {
-    Page<Curso> findByActivoTrue(Pageable pageable);
+    // Proyección directa al DTO: el listado no carga entidades administradas
+    @Query(value = "SELECT new com.foro_hub.dto.curso.CursoResponseDTO(c.id, c.nombre, c.categoria) FROM Curso c WHERE c.activo = true",
+            countQuery = "SELECT COUNT(c.id) FROM Curso c WHERE c.activo = true")
+    Page<CursoResponseDTO> findActivos(Pageable pageable);
 
     Optional<Curso> findByIdAndActivoTrue(Long id);
+
+    List<Curso> findByIdInAndActivoTrue(Collection<Long> ids);
+
+    // Validadores de GET /cursos/{id}
+    @Query("SELECT new com.foro_hub.repository.projection.CursoVersion(c.version, c.fechaModificacion) FROM Curso c WHERE c.id = :id AND c.activo = true")
+    Optional<CursoVersion> findVersion(@Param("id") Long id);
+
+    // Keyset pagination sobre (nombre, id): retornar List evita la consulta COUNT(*) de Page
+    List<Curso> findByActivoTrueOrderByNombreAscIdAsc(Pageable pageable);
+
+    @Query("""
+            SELECT c FROM Curso c
+            WHERE c.activo = true
+              AND (c.nombre > :nombre OR (c.nombre = :nombre AND c.id > :id))
+            ORDER BY c.nombre ASC, c.id ASC
+            """)
+    List<Curso> findActivosDespuesDe(@Param("nombre") String nombre, @Param("id") Long id, Pageable pageable);
+
+    @Query("""
+            SELECT c FROM Curso c
+            WHERE c.activo = true
+              AND (c.nombre < :nombre OR (c.nombre = :nombre AND c.id < :id))
+            ORDER BY c.nombre DESC, c.id DESC
+            """)
+    List<Curso> findActivosAntesDe(@Param("nombre") String nombre, @Param("id") Long id, Pageable pageable);
 }
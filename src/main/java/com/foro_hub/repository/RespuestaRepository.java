@@ -0,0 +1,61 @@
+package com.foro_hub.repository;
+
+import com.foro_hub.domain.Respuesta;
+import com.foro_hub.repository.projection.RespuestaMensaje;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RespuestaRepository extends JpaRepository<Respuesta, Long> {
+
+    @Query("""
+            SELECT r FROM Respuesta r
+            WHERE r.id = :id AND r.activo = true AND r.topico.id = :topicoId AND r.topico.activo = true
+            """)
+    Optional<Respuesta> findDeTopicoActivo(@Param("id") Long id, @Param("topicoId") Long topicoId);
+
+    // Keyset pagination sobre (fechaCreacion, id) de las respuestas activas de un tópico. Con @Query y no derivada:
+    // la consulta derivada filtraba por topicos.id a través de un LEFT JOIN y no usaba el índice de respuestas
+    @Query("""
+            SELECT r FROM Respuesta r
+            WHERE r.topico.id = :topicoId AND r.activo = true
+            ORDER BY r.fechaCreacion ASC, r.id ASC
+            """)
+    List<Respuesta> findByTopicoIdAndActivoTrueOrderByFechaCreacionAscIdAsc(@Param("topicoId") Long topicoId, Pageable pageable);
+
+    @Query("""
+            SELECT r FROM Respuesta r
+            WHERE r.topico.id = :topicoId AND r.activo = true
+              AND (r.fechaCreacion > :fecha OR (r.fechaCreacion = :fecha AND r.id > :id))
+            ORDER BY r.fechaCreacion ASC, r.id ASC
+            """)
+    List<Respuesta> findDeTopicoDespuesDe(@Param("topicoId") Long topicoId,
+                                          @Param("fecha") LocalDateTime fecha,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    @Query("""
+            SELECT r FROM Respuesta r
+            WHERE r.topico.id = :topicoId AND r.activo = true
+              AND (r.fechaCreacion < :fecha OR (r.fechaCreacion = :fecha AND r.id < :id))
+            ORDER BY r.fechaCreacion DESC, r.id DESC
+            """)
+    List<Respuesta> findDeTopicoAntesDe(@Param("topicoId") Long topicoId,
+                                        @Param("fecha") LocalDateTime fecha,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    // Texto de las respuestas activas de varios tópicos para el índice de búsqueda
+    @Query("""
+            SELECT new com.foro_hub.repository.projection.RespuestaMensaje(r.topico.id, r.mensaje)
+            FROM Respuesta r
+            WHERE r.topico.id IN :topicoIds AND r.activo = true
+            """)
+    List<RespuestaMensaje> findMensajesActivos(@Param("topicoIds") Collection<Long> topicoIds);
+}
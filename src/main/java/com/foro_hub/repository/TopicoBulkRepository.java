@@ -0,0 +1,11 @@
+package com.foro_hub.repository;
+
+import com.foro_hub.domain.Topico;
+
+import java.util.List;
+
+public interface TopicoBulkRepository {
+
+    // INSERT por lotes JDBC para importaciones masivas; asigna a cada tópico el id generado por la base
+    void insertarEnLote(List<Topico> topicos);
+}
@@ -0,0 +1,28 @@
+package com.foro_hub.repository;
+
+import com.foro_hub.domain.Topico;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// Los ids salen de bloques ya reservados (IdEnBloque), así que persist no toca la base: los INSERT se acumulan
+// hasta el flush y Hibernate los envía en batches de hibernate.jdbc.batch_size, que MySQL convierte en INSERT
+// multi-fila con rewriteBatchedStatements=true.
+// El clear suelta las entidades del lote: con open-in-view el mismo EntityManager atiende todos los lotes del request
+@RequiredArgsConstructor
+class TopicoBulkRepositoryImpl implements TopicoBulkRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void insertarEnLote(final List<Topico> topicos) {
+        if (topicos.isEmpty()) {
+            return;
+        }
+
+        topicos.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,13 @@
+package com.foro_hub.repository;
+
+import com.foro_hub.domain.Topico;
+import com.foro_hub.dto.topico.TopicoResponseDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface TopicoListadoRepository {
+
+    // longitudMensaje null devuelve el mensaje completo; con valor, se recorta en la base (modo resumen)
+    Page<TopicoResponseDTO> findListado(Specification<Topico> filtro, Integer longitudMensaje, Pageable pageable);
+}
@@ -0,0 +1,79 @@
+package com.foro_hub.repository;
+
+import com.foro_hub.domain.Curso;
+import com.foro_hub.domain.Topico;
+import com.foro_hub.domain.Usuario;
+import com.foro_hub.dto.topico.TopicoResponseDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+// Misma proyección que TopicoRepository.PROYECCION_LISTADO (DTO con autor y curso en un solo JOIN), armada con
+// Criteria porque el WHERE depende de los filtros recibidos
+@RequiredArgsConstructor
+class TopicoListadoRepositoryImpl implements TopicoListadoRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<TopicoResponseDTO> findListado(final Specification<Topico> filtro,
+                                               final Integer longitudMensaje,
+                                               final Pageable pageable) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<TopicoResponseDTO> query = cb.createQuery(TopicoResponseDTO.class);
+        final Root<Topico> t = query.from(Topico.class);
+        final Join<Topico, Usuario> a = t.join("autor");
+        final Join<Topico, Curso> c = t.join("curso");
+
+        final Expression<String> mensaje = longitudMensaje != null
+                ? cb.substring(t.get("mensaje"), 1, longitudMensaje)
+                : t.get("mensaje");
+
+        query.select(cb.construct(TopicoResponseDTO.class,
+                        t.get("id"), t.get("titulo"), mensaje, t.get("fechaCreacion"), t.get("status"), t.get("respuestasCount"),
+                        cb.<Boolean>selectCase().when(cb.gt(t.get("solucionesCount"), 0), true).otherwise(false),
+                        t.get("ultimaRespuestaFecha"),
+                        a.get("nombre"), c.get("nombre"), c.get("categoria")))
+                .where(filtro.toPredicate(t, query, cb))
+                .orderBy(QueryUtils.toOrders(conDesempate(pageable.getSort()), t, cb));
+
+        final TypedQuery<TopicoResponseDTO> consulta = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            consulta.setFirstResult((int) pageable.getOffset());
+            consulta.setMaxResults(pageable.getPageSize());
+        }
+
+        // Si la página vino incompleta el total se deduce sin ejecutar el COUNT
+        return PageableExecutionUtils.getPage(consulta.getResultList(), pageable, () -> contar(filtro));
+    }
+
+    // id como último criterio: el orden es estable entre páginas y coincide con los índices (..., id) de V8, V13 y V14
+    private static Sort conDesempate(final Sort sort) {
+        if (sort.isUnsorted() || sort.getOrderFor("id") != null) {
+            return sort;
+        }
+        final Sort.Direction direccion = sort.stream().reduce((primero, ultimo) -> ultimo).orElseThrow().getDirection();
+        return sort.and(Sort.by(direccion, "id"));
+    }
+
+    private long contar(final Specification<Topico> filtro) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final Root<Topico> t = query.from(Topico.class);
+
+        query.select(cb.count(t)).where(filtro.toPredicate(t, query, cb));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
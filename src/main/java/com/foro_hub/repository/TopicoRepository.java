@@ -1,18 +1,146 @@
 package com.foro_hub.repository;
 
 import com.foro_hub.domain.Topico;
-import org.springframework.data.domain.Page;
+import com.foro_hub.dto.topico.TopicoResponseDTO;
+import com.foro_hub.repository.projection.TopicoVersion;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface TopicoRepository extends JpaRepository<Topico, Long> {
+public interface TopicoRepository extends JpaRepository<Topico, Long>, TopicoListadoRepository, TopicoBulkRepository {
 
-    boolean existsByTituloAndMensaje(String titulo, String mensaje);
+    boolean existsByContenidoHash(String contenidoHash);
 
-    Page<Topico> findByActivoTrue(Pageable pageable);
+    // Deduplicación de la importación masiva: una sola consulta por lote contra el índice único de contenido_hash
+    @Query("SELECT t.contenidoHash FROM Topico t WHERE t.contenidoHash IN :hashes")
+    List<String> findContenidoHashExistentes(@Param("hashes") Collection<String> hashes);
+
+    // Listados: se proyecta directo al DTO con autor y curso en el mismo JOIN, sin cargar entidades administradas
+    // (evita el N+1 de las relaciones LAZY y la carga EAGER de perfiles de cada autor)
+    String PROYECCION_LISTADO = """
+            SELECT new com.foro_hub.dto.topico.TopicoResponseDTO(
+                t.id, t.titulo, t.mensaje, t.fechaCreacion, t.status, t.respuestasCount,
+                CASE WHEN t.solucionesCount > 0 THEN true ELSE false END, t.ultimaRespuestaFecha,
+                a.nombre, c.nombre, c.categoria)
+            FROM Topico t JOIN t.autor a JOIN t.curso c
+            """;
 
     Optional<Topico> findByIdAndActivoTrue(Long id);
+
+    boolean existsByIdAndActivoTrue(Long id);
+
+    long countByActivoTrue();
+
+    // Validadores de GET /topicos/{id}: solo versiones y fechas, sin leer el mensaje ni armar el DTO
+    @Query("""
+            SELECT new com.foro_hub.repository.projection.TopicoVersion(t.version, t.fechaModificacion, c.version, c.fechaModificacion)
+            FROM Topico t JOIN t.curso c
+            WHERE t.id = :id AND t.activo = true
+            """)
+    Optional<TopicoVersion> findVersion(@Param("id") Long id);
+
+    // Keyset pagination sobre (fechaCreacion, id): retornar List evita la consulta COUNT(*) de Page
+    @Query(PROYECCION_LISTADO + """
+            WHERE t.activo = true
+            ORDER BY t.fechaCreacion ASC, t.id ASC
+            """)
+    List<TopicoResponseDTO> findActivosDesdeInicio(Pageable pageable);
+
+    @Query(PROYECCION_LISTADO + """
+            WHERE t.activo = true
+              AND (t.fechaCreacion > :fecha OR (t.fechaCreacion = :fecha AND t.id > :id))
+            ORDER BY t.fechaCreacion ASC, t.id ASC
+            """)
+    List<TopicoResponseDTO> findActivosDespuesDe(@Param("fecha") LocalDateTime fecha, @Param("id") Long id, Pageable pageable);
+
+    @Query(PROYECCION_LISTADO + """
+            WHERE t.activo = true
+              AND (t.fechaCreacion < :fecha OR (t.fechaCreacion = :fecha AND t.id < :id))
+            ORDER BY t.fechaCreacion DESC, t.id DESC
+            """)
+    List<TopicoResponseDTO> findActivosAntesDe(@Param("fecha") LocalDateTime fecha, @Param("id") Long id, Pageable pageable);
+
+    // Reconstrucción del índice de búsqueda por lotes de id
+    @Query("SELECT t FROM Topico t JOIN FETCH t.curso WHERE t.activo = true AND t.id > :id ORDER BY t.id ASC")
+    List<Topico> findActivosParaIndexar(@Param("id") Long id, Pageable pageable);
+
+    // Contadores de respuestas: UPDATE atómicos en la base, sin leer-modificar-escribir la entidad.
+    // Cambian la respuesta de GET /topicos/{id}, así que son VERSIONED (incrementan version) y mueven fechaModificacion
+    @Modifying
+    @Query("""
+            UPDATE VERSIONED Topico t
+            SET t.respuestasCount = t.respuestasCount + 1,
+                t.ultimaRespuestaFecha = CASE
+                    WHEN t.ultimaRespuestaFecha IS NULL OR t.ultimaRespuestaFecha < :fecha THEN :fecha
+                    ELSE t.ultimaRespuestaFecha END,
+                t.fechaModificacion = LOCAL DATETIME
+            WHERE t.id = :id
+            """)
+    int incrementarRespuestas(@Param("id") Long id, @Param("fecha") LocalDateTime fecha);
+
+    // Se hace flush antes para que la subconsulta ya no vea la respuesta eliminada
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE VERSIONED Topico t
+            SET t.respuestasCount = CASE WHEN t.respuestasCount > 0 THEN t.respuestasCount - 1 ELSE 0 END,
+                t.ultimaRespuestaFecha = (
+                    SELECT MAX(r.fechaCreacion) FROM Respuesta r WHERE r.topico.id = :id AND r.activo = true),
+                t.fechaModificacion = LOCAL DATETIME
+            WHERE t.id = :id
+            """)
+    int decrementarRespuestas(@Param("id") Long id);
+
+    @Modifying
+    @Query("""
+            UPDATE VERSIONED Topico t
+            SET t.solucionesCount = CASE WHEN t.solucionesCount + :delta > 0 THEN t.solucionesCount + :delta ELSE 0 END,
+                t.fechaModificacion = LOCAL DATETIME
+            WHERE t.id = :id
+            """)
+    int ajustarSoluciones(@Param("id") Long id, @Param("delta") int delta);
+
+    // El estado también se escribe con un UPDATE en la base: después de ajustarSoluciones la entidad cargada tiene la
+    // versión vieja y modificarla fallaría siempre por bloqueo optimista. Un tópico ya resuelto conserva su versión
+    @Modifying
+    @Query("""
+            UPDATE VERSIONED Topico t
+            SET t.status = com.foro_hub.domain.enums.StatusTopico.RESUELTO,
+                t.fechaModificacion = LOCAL DATETIME
+            WHERE t.id = :id
+              AND t.status <> com.foro_hub.domain.enums.StatusTopico.RESUELTO
+            """)
+    int marcarResuelto(@Param("id") Long id);
+
+    // Reconciliación por lotes de id (incluye tópicos inactivos)
+    @Query("SELECT t.id FROM Topico t WHERE t.id > :id ORDER BY t.id ASC")
+    List<Long> findIdsDespuesDe(@Param("id") Long id, Pageable pageable);
+
+    // Solo toca las filas cuyos contadores se desviaron: cada UPDATE VERSIONED invalida el ETag del tópico y haría
+    // fallar con 412/409 las ediciones en curso, así que un tópico correcto no debe cambiar de versión
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE VERSIONED Topico t
+            SET t.respuestasCount = (
+                    SELECT COUNT(r.id) FROM Respuesta r WHERE r.topico.id = t.id AND r.activo = true),
+                t.solucionesCount = (
+                    SELECT COUNT(r.id) FROM Respuesta r WHERE r.topico.id = t.id AND r.activo = true AND r.solucion = true),
+                t.ultimaRespuestaFecha = (
+                    SELECT MAX(r.fechaCreacion) FROM Respuesta r WHERE r.topico.id = t.id AND r.activo = true),
+                t.fechaModificacion = LOCAL DATETIME
+            WHERE t.id IN :ids
+              AND (t.respuestasCount <> (
+                        SELECT COUNT(r.id) FROM Respuesta r WHERE r.topico.id = t.id AND r.activo = true)
+                   OR t.solucionesCount <> (
+                        SELECT COUNT(r.id) FROM Respuesta r WHERE r.topico.id = t.id AND r.activo = true AND r.solucion = true)
+                   OR t.ultimaRespuestaFecha IS DISTINCT FROM (
+                        SELECT MAX(r.fechaCreacion) FROM Respuesta r WHERE r.topico.id = t.id AND r.activo = true))
+            """)
+    int recalcularContadores(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,57 @@
+package com.foro_hub.repository;
+
+import com.foro_hub.domain.Topico;
+import com.foro_hub.domain.enums.StatusTopico;
+import com.foro_hub.dto.topico.TopicoFiltroDTO;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// Filtros componibles del listado de tópicos. Cada combinación se apoya en un índice que empieza por activo,
+// sigue por la columna filtrada por igualdad y termina en (fecha_creacion, id) (ver V8 y V14)
+public final class TopicoSpecifications {
+
+    private TopicoSpecifications() {
+    }
+
+    public static Specification<Topico> filtrar(final TopicoFiltroDTO filtro) {
+        return Stream.of(
+                        activos(),
+                        delCurso(filtro.cursoId()),
+                        conStatus(filtro.status()),
+                        delAutor(filtro.autorId()),
+                        creadosDesde(filtro.fechaDesde()),
+                        creadosHasta(filtro.fechaHasta()))
+                .filter(Objects::nonNull)
+                .reduce(Specification::and)
+                .orElseThrow();
+    }
+
+    // Igualdad explícita (y no un predicado booleano a secas) para que MySQL use activo como prefijo del índice
+    public static Specification<Topico> activos() {
+        return (root, query, cb) -> cb.equal(root.get("activo"), true);
+    }
+
+    // curso.id y autor.id se resuelven con la FK de topicos, sin JOIN
+    public static Specification<Topico> delCurso(final Long cursoId) {
+        return cursoId == null ? null : (root, query, cb) -> cb.equal(root.get("curso").get("id"), cursoId);
+    }
+
+    public static Specification<Topico> delAutor(final Long autorId) {
+        return autorId == null ? null : (root, query, cb) -> cb.equal(root.get("autor").get("id"), autorId);
+    }
+
+    public static Specification<Topico> conStatus(final StatusTopico status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Topico> creadosDesde(final LocalDateTime desde) {
+        return desde == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("fechaCreacion"), desde);
+    }
+
+    public static Specification<Topico> creadosHasta(final LocalDateTime hasta) {
+        return hasta == null ? null : (root, query, cb) -> cb.lessThan(root.get("fechaCreacion"), hasta);
+    }
+}
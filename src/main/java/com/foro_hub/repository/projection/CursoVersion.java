@@ -0,0 +1,6 @@
+package com.foro_hub.repository.projection;
+
+import java.time.LocalDateTime;
+
+public record CursoVersion(Long version, LocalDateTime fechaModificacion) {
+}
@@ -0,0 +1,5 @@
+package com.foro_hub.repository.projection;
+
+// Resultado de RespuestaRepository.findMensajesActivos: texto de cada respuesta activa para el índice de búsqueda
+public record RespuestaMensaje(Long topicoId, String mensaje) {
+}
@@ -0,0 +1,7 @@
+package com.foro_hub.repository.projection;
+
+import java.time.LocalDateTime;
+
+// La respuesta de GET /topicos/{id} incluye datos del curso: su versión también forma parte del ETag
+public record TopicoVersion(Long version, LocalDateTime fechaModificacion, Long cursoVersion, LocalDateTime cursoFechaModificacion) {
+}
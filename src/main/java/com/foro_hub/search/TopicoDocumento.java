@@ -0,0 +1,21 @@
+package com.foro_hub.search;
+
+import com.foro_hub.domain.enums.StatusTopico;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Contenido indexado de un tópico activo: título, mensaje y el texto de sus respuestas activas
+@Builder(setterPrefix = "with")
+public record TopicoDocumento(
+        Long id,
+        String titulo,
+        String mensaje,
+        StatusTopico status,
+        Long cursoId,
+        String cursoNombre,
+        LocalDateTime fechaCreacion,
+        List<String> respuestas
+) {
+}
@@ -0,0 +1,28 @@
+package com.foro_hub.search;
+
+import com.foro_hub.repository.TopicoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+// GET /actuator/search: tamaño, lag y latencia de refresco del índice, junto con los tópicos activos en la base
+// (si la diferencia no vuelve a cero, el índice quedó desincronizado)
+@Component
+@Endpoint(id = "search")
+@RequiredArgsConstructor
+public class TopicoSearchEndpoint {
+
+    private final TopicoSearchIndex index;
+    private final TopicoRepository topicoRepository;
+
+    @ReadOperation
+    public Estado estado() {
+        final TopicoSearchIndexStats indice = index.estadisticas();
+        final long topicosActivos = topicoRepository.countByActivoTrue();
+        return new Estado(indice, topicosActivos, topicosActivos - indice.documentos());
+    }
+
+    public record Estado(TopicoSearchIndexStats indice, long topicosActivos, long diferencia) {
+    }
+}
@@ -0,0 +1,426 @@
+package com.foro_hub.search;
+
+import com.foro_hub.domain.enums.StatusTopico;
+import com.foro_hub.dto.topico.TopicoSearchResultDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.StopFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.es.SpanishAnalyzer;
+import org.apache.lucene.analysis.es.SpanishLightStemFilter;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.TieredMergePolicy;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Índice invertido de tópicos activos, en disco (memory-mapped). Un documento por tópico, identificado por id;
+// cada escritura reemplaza el documento completo.
+// Las escrituras no esperan: un hilo de refresco (near-real-time) las hace visibles a la búsqueda en menos de
+// max-stale-ms, los merges de segmentos corren en segundo plano y el commit a disco se agrupa cada interval-ms.
+@Component
+@Slf4j
+public class TopicoSearchIndex {
+
+    static final String ID = "id";
+    static final String ID_ORDEN = "id_orden";
+    static final String TITULO = "titulo";
+    static final String MENSAJE = "mensaje";
+    static final String RESPUESTAS = "respuestas";
+    static final String STATUS = "status";
+    static final String CURSO_ID = "curso_id";
+    static final String CURSO_NOMBRE = "curso_nombre";
+    static final String FECHA_CREACION = "fecha_creacion";
+
+    // El título pesa más que el mensaje y el mensaje más que las respuestas
+    private static final Map<String, Float> CAMPOS_BUSQUEDA = Map.of(TITULO, 2f, MENSAJE, 1f, RESPUESTAS, 0.5f);
+
+    // Título y mensaje guardan offsets en los postings: el highlighter los usa en lugar de volver a analizar el texto
+    private static final FieldType TEXTO_RESALTABLE = new FieldType(TextField.TYPE_STORED);
+
+    static {
+        TEXTO_RESALTABLE.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        TEXTO_RESALTABLE.freeze();
+    }
+
+    // Relevancia descendente y, a igual relevancia, id descendente: orden total para paginar con searchAfter
+    private static final Sort ORDEN = new Sort(SortField.FIELD_SCORE, new SortField(ID_ORDEN, SortField.Type.LONG, true));
+
+    // Marca del último commit: solo el cierre ordenado la deja en "true". Si al arrancar dice "false", el proceso
+    // terminó sin confirmar las escrituras posteriores al último commit y el índice puede haber quedado atrás
+    static final String CIERRE_LIMPIO = "cierre_limpio";
+
+    private static final double MIN_STALE_SEGUNDOS = 0.025;
+    private static final double RAM_BUFFER_MB = 32;
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private final boolean requiereReconstruccion;
+
+    private final AtomicLong escrituraPendienteDesde = new AtomicLong();
+    private final AtomicLong refrescos = new AtomicLong();
+    private final AtomicLong ultimoRefreshNanos = new AtomicLong();
+    private final AtomicLong maxRefreshNanos = new AtomicLong();
+    private final AtomicLong totalRefreshNanos = new AtomicLong();
+    private volatile Instant ultimoCommit;
+    private volatile long ultimoCommitNanos;
+
+    @Autowired
+    public TopicoSearchIndex(@Value("${api.search.index.path:data/search-index}") final Path ruta,
+                             @Value("${api.search.refresh.max-stale-ms:1000}") final long maxStaleMs) {
+        this(abrir(ruta), maxStaleMs);
+        log.info("[ForoHub/Search] - Índice de búsqueda en {}", ruta.toAbsolutePath());
+    }
+
+    public TopicoSearchIndex(final Directory directory, final long maxStaleMs) {
+        try {
+            this.directory = directory;
+            this.analyzer = new ForoAnalyzer();
+            this.requiereReconstruccion = !DirectoryReader.indexExists(directory)
+                    || !Boolean.parseBoolean(SegmentInfos.readLatestCommit(directory).getUserData().get(CIERRE_LIMPIO));
+
+            final TieredMergePolicy mergePolicy = new TieredMergePolicy();
+            mergePolicy.setDeletesPctAllowed(25);
+            final IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                    .setRAMBufferSizeMB(RAM_BUFFER_MB)
+                    .setMergePolicy(mergePolicy)
+                    .setMergeScheduler(new ConcurrentMergeScheduler());
+            this.writer = new IndexWriter(directory, config);
+            marcarCierre(false);
+            writer.commit();
+
+            this.searcherManager = new SearcherManager(writer, null);
+            this.searcherManager.addListener(new MedicionRefresh());
+            this.reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager,
+                    maxStaleMs / 1000.0, Math.min(MIN_STALE_SEGUNDOS, maxStaleMs / 1000.0));
+            this.reopenThread.setName("foro-hub-search-refresh");
+            this.reopenThread.setDaemon(true);
+            this.reopenThread.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // true si el índice no existe o quedó de un proceso que no cerró ordenadamente
+    public boolean requiereReconstruccion() {
+        return requiereReconstruccion;
+    }
+
+    public void indexar(final TopicoDocumento documento) {
+        indexar(List.of(documento));
+    }
+
+    public void indexar(final Collection<TopicoDocumento> documentos) {
+        try {
+            for (TopicoDocumento documento : documentos) {
+                writer.updateDocument(new Term(ID, documento.id().toString()), toDocument(documento));
+            }
+            registrarEscritura();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void eliminar(final Long id) {
+        try {
+            writer.deleteDocuments(new Term(ID, id.toString()));
+            registrarEscritura();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void eliminarTodo() {
+        try {
+            writer.deleteAll();
+            registrarEscritura();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Hace visibles ya las escrituras pendientes, sin esperar al hilo de refresco
+    public void refrescar() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Persiste en disco lo escrito desde el último commit. Es la operación cara (fsync de los segmentos nuevos),
+    // por eso se agrupa en vez de hacerse en cada escritura
+    @Scheduled(fixedDelayString = "${api.search.commit.interval-ms:30000}")
+    public void confirmar() {
+        if (!writer.hasUncommittedChanges()) {
+            return;
+        }
+
+        try {
+            final long inicio = System.nanoTime();
+            writer.commit();
+            ultimoCommitNanos = System.nanoTime() - inicio;
+            ultimoCommit = Instant.now();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Devuelve hasta "limite" resultados posteriores a (despuesDeScore, despuesDeId); ambos null para la primera página
+    public List<TopicoSearchResultDTO> buscar(final String texto,
+                                              final Long cursoId,
+                                              final StatusTopico status,
+                                              final Float despuesDeScore,
+                                              final Long despuesDeId,
+                                              final int limite) {
+        final SimpleQueryParser parser = new SimpleQueryParser(analyzer, CAMPOS_BUSQUEDA);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+
+        final BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(parser.parse(texto), BooleanClause.Occur.MUST);
+        if (cursoId != null) {
+            query.add(LongPoint.newExactQuery(CURSO_ID, cursoId), BooleanClause.Occur.FILTER);
+        }
+        if (status != null) {
+            query.add(new TermQuery(new Term(STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+        final Query consulta = query.build();
+
+        try {
+            final IndexSearcher searcher = searcherManager.acquire();
+            try {
+                // (score, id) ya identifica un único documento: con el mayor doc posible, el empate exacto
+                // (el último resultado de la página anterior) queda excluido
+                final FieldDoc despuesDe = despuesDeScore == null || despuesDeId == null
+                        ? null
+                        : new FieldDoc(Math.max(searcher.getIndexReader().maxDoc() - 1, 0), despuesDeScore,
+                        new Object[]{despuesDeScore, despuesDeId});
+                final TopFieldDocs topDocs = searcher.searchAfter(despuesDe, consulta, limite, ORDEN, true);
+                return toResultados(searcher, consulta, topDocs);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int cantidadDocumentos() {
+        return writer.getDocStats().numDocs;
+    }
+
+    public TopicoSearchIndexStats estadisticas() {
+        try {
+            final IndexSearcher searcher = searcherManager.acquire();
+            try {
+                final DirectoryReader reader = (DirectoryReader) searcher.getIndexReader();
+                final long pendienteDesde = escrituraPendienteDesde.get();
+                final long cantidadRefrescos = refrescos.get();
+
+                return TopicoSearchIndexStats.builder()
+                        .withDocumentos(writer.getDocStats().numDocs)
+                        .withDocumentosEliminados(writer.getDocStats().maxDoc - writer.getDocStats().numDocs)
+                        .withSegmentos(reader.leaves().size())
+                        .withTamanioBytes(tamanioEnDisco())
+                        .withVisibleAlDia(reader.isCurrent())
+                        .withLagMs(pendienteDesde == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pendienteDesde))
+                        .withRefrescos(cantidadRefrescos)
+                        .withUltimoRefreshMs(nanosAMillis(ultimoRefreshNanos.get()))
+                        .withPromedioRefreshMs(cantidadRefrescos == 0 ? 0 : nanosAMillis(totalRefreshNanos.get() / cantidadRefrescos))
+                        .withMaxRefreshMs(nanosAMillis(maxRefreshNanos.get()))
+                        .withCambiosSinConfirmar(writer.hasUncommittedChanges())
+                        .withUltimoCommit(ultimoCommit)
+                        .withUltimoCommitMs(nanosAMillis(ultimoCommitNanos))
+                        .build();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        marcarCierre(true);
+        writer.close();
+        directory.close();
+    }
+
+    private static Directory abrir(final Path ruta) {
+        try {
+            Files.createDirectories(ruta);
+            return new MMapDirectory(ruta);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void marcarCierre(final boolean limpio) {
+        writer.setLiveCommitData(Map.of(CIERRE_LIMPIO, Boolean.toString(limpio)).entrySet(), true);
+    }
+
+    private void registrarEscritura() {
+        escrituraPendienteDesde.compareAndSet(0, System.nanoTime());
+    }
+
+    private long tamanioEnDisco() throws IOException {
+        long total = 0;
+        for (String archivo : directory.listAll()) {
+            try {
+                total += directory.fileLength(archivo);
+            } catch (NoSuchFileException e) {
+                // Un merge o commit lo borró mientras se recorría el directorio
+            }
+        }
+        return total;
+    }
+
+    private static double nanosAMillis(final long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private List<TopicoSearchResultDTO> toResultados(final IndexSearcher searcher,
+                                                     final Query consulta,
+                                                     final TopFieldDocs topDocs) throws IOException {
+        if (topDocs.scoreDocs.length == 0) {
+            return List.of();
+        }
+
+        final UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+                .withFormatter(new DefaultPassageFormatter("<mark>", "</mark>", "... ", true))
+                .build();
+        final Map<String, String[]> resaltados = highlighter.highlightFields(
+                new String[]{TITULO, MENSAJE}, consulta, topDocs, new int[]{1, 2});
+
+        final StoredFields storedFields = searcher.storedFields();
+        final List<TopicoSearchResultDTO> resultados = new ArrayList<>(topDocs.scoreDocs.length);
+
+        for (int i = 0; i < topDocs.scoreDocs.length; i++) {
+            final ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+            final Document documento = storedFields.document(scoreDoc.doc);
+
+            final String titulo = resaltados.get(TITULO)[i];
+            final String fragmento = resaltados.get(MENSAJE)[i];
+
+            resultados.add(TopicoSearchResultDTO.builder()
+                    .withId(Long.valueOf(documento.get(ID)))
+                    .withTitulo(titulo != null ? titulo : documento.get(TITULO))
+                    .withFragmento(fragmento != null ? fragmento : documento.get(MENSAJE))
+                    .withScore(scoreDoc.score)
+                    .withStatus(StatusTopico.valueOf(documento.get(STATUS)))
+                    .withCursoNombre(documento.get(CURSO_NOMBRE))
+                    .withFechaCreacion(LocalDateTime.parse(documento.get(FECHA_CREACION)))
+                    .build());
+        }
+
+        return resultados;
+    }
+
+    private static Document toDocument(final TopicoDocumento topico) {
+        final Document documento = new Document();
+        documento.add(new StringField(ID, topico.id().toString(), Field.Store.YES));
+        documento.add(new NumericDocValuesField(ID_ORDEN, topico.id()));
+        documento.add(new Field(TITULO, topico.titulo(), TEXTO_RESALTABLE));
+        documento.add(new Field(MENSAJE, topico.mensaje(), TEXTO_RESALTABLE));
+        documento.add(new StringField(STATUS, topico.status().name(), Field.Store.YES));
+        documento.add(new LongPoint(CURSO_ID, topico.cursoId()));
+        documento.add(new StoredField(CURSO_NOMBRE, topico.cursoNombre()));
+        documento.add(new StoredField(FECHA_CREACION, topico.fechaCreacion().toString()));
+
+        for (String respuesta : topico.respuestas()) {
+            documento.add(new TextField(RESPUESTAS, respuesta, Field.Store.NO));
+        }
+
+        return documento;
+    }
+
+    // Mide cada refresco que abre un searcher nuevo. El hilo de refresco también lo dispara sin cambios:
+    // esos no cuentan, y la escritura pendiente que se haya colado vuelve a marcarse
+    private final class MedicionRefresh implements ReferenceManager.RefreshListener {
+
+        private long inicio;
+        private long pendienteDesde;
+
+        @Override
+        public void beforeRefresh() {
+            inicio = System.nanoTime();
+            pendienteDesde = escrituraPendienteDesde.getAndSet(0);
+        }
+
+        @Override
+        public void afterRefresh(final boolean didRefresh) {
+            if (!didRefresh) {
+                if (pendienteDesde != 0) {
+                    escrituraPendienteDesde.compareAndSet(0, pendienteDesde);
+                }
+                return;
+            }
+
+            final long duracion = System.nanoTime() - inicio;
+            refrescos.incrementAndGet();
+            ultimoRefreshNanos.set(duracion);
+            totalRefreshNanos.addAndGet(duracion);
+            maxRefreshNanos.accumulateAndGet(duracion, Math::max);
+        }
+    }
+
+    // Minúsculas, stopwords y stemming liviano en español; sin acentos para que "como" encuentre "cómo"
+    private static final class ForoAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(final String fieldName) {
+            final Tokenizer tokenizer = new StandardTokenizer();
+            TokenStream stream = new LowerCaseFilter(tokenizer);
+            stream = new StopFilter(stream, SpanishAnalyzer.getDefaultStopSet());
+            stream = new SpanishLightStemFilter(stream);
+            stream = new ASCIIFoldingFilter(stream);
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+
+        @Override
+        protected TokenStream normalize(final String fieldName, final TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+    }
+}
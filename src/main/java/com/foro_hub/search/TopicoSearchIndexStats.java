@@ -0,0 +1,25 @@
+package com.foro_hub.search;
+
+import lombok.Builder;
+
+import java.time.Instant;
+
+// Estado del índice de búsqueda que expone /actuator/search
+@Builder(setterPrefix = "with")
+public record TopicoSearchIndexStats(
+        int documentos,
+        int documentosEliminados,
+        int segmentos,
+        long tamanioBytes,
+        // false si hay escrituras que la búsqueda todavía no ve; lagMs es la antigüedad de la más vieja
+        boolean visibleAlDia,
+        long lagMs,
+        long refrescos,
+        double ultimoRefreshMs,
+        double promedioRefreshMs,
+        double maxRefreshMs,
+        boolean cambiosSinConfirmar,
+        Instant ultimoCommit,
+        double ultimoCommitMs
+) {
+}
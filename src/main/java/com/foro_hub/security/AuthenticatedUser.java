@@ -0,0 +1,31 @@
+package com.foro_hub.security;
+
+import com.foro_hub.domain.Usuario;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.List;
+
+// Principal liviano reconstruido desde los claims del JWT: evita consultar usuarios/perfiles en cada request
+public record AuthenticatedUser(Long id, String email, String nombre, List<String> roles) implements Principal {
+
+    public static AuthenticatedUser from(final Usuario usuario) {
+        final List<String> roles = usuario.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        return new AuthenticatedUser(usuario.getId(), usuario.getEmail(), usuario.getNombre(), roles);
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return roles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -1,5 +1,7 @@
 package com.foro_hub.security;
 
+import com.foro_hub.domain.Usuario;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -44,22 +46,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            final String userEmail = jwtService.extractUsername(jwt);
+            final Claims claims = jwtService.extractAllClaims(jwt);
+            final String userEmail = claims.getSubject();
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                final UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+                final AuthenticatedUser principal = resolvePrincipal(claims);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (principal != null) {
                     final UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
+                            principal,
                             null,
-                            userDetails.getAuthorities()
+                            principal.getAuthorities()
                     );
 
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
 
-                    log.info("[ForoHub/Security] - Usuario autenticado: {}", userEmail);
+                    // Corre en cada request autenticado; con DEBUG apagado (lo normal) no se arma el mensaje
+                    if (log.isDebugEnabled()) {
+                        log.debug("[ForoHub/Security] - Usuario autenticado: {}", userEmail);
+                    }
                 } else {
                     log.warn("[ForoHub/Security] - Token inválido para usuario: {}", userEmail);
                 }
@@ -76,6 +82,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // El principal se arma con los claims del token, sin consultar la base de datos. Solo los tokens emitidos
+    // antes de incluir id y roles en los claims requieren cargar al usuario.
+    private AuthenticatedUser resolvePrincipal(final Claims claims) {
+        final AuthenticatedUser principal = jwtService.toAuthenticatedUser(claims);
+
+        if (principal != null) {
+            return principal;
+        }
+
+        final UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+
+        if (!(userDetails instanceof Usuario usuario) || !jwtService.isTokenValid(claims, usuario)) {
+            return null;
+        }
+
+        return AuthenticatedUser.from(usuario);
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
@@ -1,6 +1,8 @@
 package com.foro_hub.security;
 
+import com.foro_hub.domain.Usuario;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
@@ -12,46 +14,83 @@ import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.List;
 import java.util.function.Function;
 
 @Service
 @Slf4j
 public class JwtService {
 
-    @Value("${api.security.token.secret}")
-    private String secretKey;
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLES_CLAIM = "roles";
+    public static final String NOMBRE_CLAIM = "nombre";
+
+    // La clave y el parser son inmutables y thread-safe: se construyen una sola vez y se reutilizan en cada request
+    private final SecretKey signInKey;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Getter
-    @Value("${api.security.token.expiration-ms}")
-    private Long expirationMs;
+    private final Long expirationMs;
+
+    public JwtService(@Value("${api.security.token.secret}") final String secretKey,
+                      @Value("${api.security.token.expiration-ms}") final Long expirationMs,
+                      final VerifiedTokenCache verifiedTokenCache) {
+        this.signInKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signInKey)
+                .build();
+        this.expirationMs = expirationMs;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
 
-    public String generateToken(final UserDetails userDetails) {
+    public String generateToken(final Usuario usuario) {
         final Date now = new Date();
         final Date expiryDate = new Date(now.getTime() + expirationMs);
 
-        log.info("[ForoHub/JWT] - Generando token para usuario: {}", userDetails.getUsername());
+        log.debug("[ForoHub/JWT] - Generando token para usuario: {}", usuario.getUsername());
+
+        final AuthenticatedUser principal = AuthenticatedUser.from(usuario);
 
         return Jwts.builder()
-                .subject(userDetails.getUsername())
+                .subject(principal.email())
+                .claim(USER_ID_CLAIM, principal.id())
+                .claim(NOMBRE_CLAIM, principal.nombre())
+                .claim(ROLES_CLAIM, principal.roles())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSignInKey())
+                .signWith(signInKey)
                 .compact();
     }
 
+    // Verifica la firma y la expiración una única vez por token (luego se sirve desde VerifiedTokenCache);
+    // lanza JwtException si el token no es válido
+    public Claims extractAllClaims(final String token) {
+        return verifiedTokenCache.get(token, this::verifyClaims);
+    }
+
+    private Claims verifyClaims(final String token) {
+        return jwtParser
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
     public String extractUsername(final String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
-
     public <T> T extractClaim(final String token, final Function<Claims, T> claimsResolver) {
         final Claims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
     }
 
     public boolean isTokenValid(final String token, final UserDetails userDetails) {
-        final String username = extractUsername(token);
-        final boolean isValid = username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return isTokenValid(extractAllClaims(token), userDetails);
+    }
+
+    public boolean isTokenValid(final Claims claims, final UserDetails userDetails) {
+        final String username = claims.getSubject();
+        final boolean isValid = username.equals(userDetails.getUsername()) && !isTokenExpired(claims);
 
         if (isValid) {
             log.debug("[ForoHub/JWT] - Token válido para usuario: {}", username);
@@ -62,24 +101,20 @@ public class JwtService {
         return isValid;
     }
 
-    private boolean isTokenExpired(final String token) {
-        return extractExpiration(token).before(new Date());
-    }
+    // Devuelve null para tokens emitidos antes de incluir id, nombre y roles en los claims
+    public AuthenticatedUser toAuthenticatedUser(final Claims claims) {
+        final Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        final String nombre = claims.get(NOMBRE_CLAIM, String.class);
+        final List<?> roles = claims.get(ROLES_CLAIM, List.class);
 
-    private Date extractExpiration(final String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
+        if (userId == null || nombre == null || roles == null) {
+            return null;
+        }
 
-    private Claims extractAllClaims(final String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return new AuthenticatedUser(userId, claims.getSubject(), nombre, roles.stream().map(String::valueOf).toList());
     }
 
-    private SecretKey getSignInKey() {
-        // return Jwts.SIG.HS256.key();
-        return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    private boolean isTokenExpired(final Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 }
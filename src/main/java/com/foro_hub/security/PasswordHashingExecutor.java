@@ -0,0 +1,133 @@
+package com.foro_hub.security;
+
+import com.foro_hub.exception.PasswordHashingOverloadException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Pool dedicado y acotado para BCrypt: un pico de logins/registros consume a lo sumo "threads" núcleos
+// y "queue-capacity" lugares en cola. Lo que no entra (o espera más de timeout-ms) se rechaza con
+// PasswordHashingOverloadException (503 + Retry-After) en vez de ocupar los hilos que sirven el resto de la API.
+// BCrypt no responde a interrupciones: un hash que ya arrancó cuando vence el timeout termina igual y su resultado se
+// descarta. Ese trabajo perdido está acotado por el pool: como mucho "threads" hashes a la vez, uno por hilo
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    public static final String METRIC_NAME = "password.hashing";
+
+    public enum Operacion {
+        ENCODE,
+        MATCHES;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final long retryAfterSeconds;
+    private final Map<Operacion, Timer> timers = new EnumMap<>(Operacion.class);
+    private final Counter rechazos;
+
+    public PasswordHashingExecutor(@Value("${api.security.password.hashing.threads:0}") final int threads,
+                                   @Value("${api.security.password.hashing.queue-capacity:64}") final int queueCapacity,
+                                   @Value("${api.security.password.hashing.timeout-ms:2000}") final long timeoutMs,
+                                   @Value("${api.security.password.hashing.retry-after-seconds:1}") final long retryAfterSeconds,
+                                   final MeterRegistry meterRegistry) {
+        final int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        final BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+        final AtomicInteger contador = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, queue, runnable -> {
+            final Thread thread = new Thread(runnable, "password-hashing-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timeoutMs = timeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+        for (final Operacion operacion : Operacion.values()) {
+            timers.put(operacion, Timer.builder(METRIC_NAME)
+                    .description("Latencia de hash de contraseñas, incluida la espera en cola")
+                    .tag("operacion", operacion.tag())
+                    .register(meterRegistry));
+        }
+        this.rechazos = Counter.builder(METRIC_NAME + ".rejected")
+                .description("Operaciones de hash rechazadas por saturación")
+                .register(meterRegistry);
+
+        // executor.queued / executor.active / executor.queue.remaining con tag name=password.hashing
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, METRIC_NAME);
+    }
+
+    public <T> T execute(final Operacion operacion, final Supplier<T> tarea) {
+        final long inicio = System.nanoTime();
+
+        final Future<T> future;
+        try {
+            future = executor.submit(tarea::get);
+        } catch (RejectedExecutionException e) {
+            throw rechazar(operacion, "cola llena");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Si todavía no arrancó ya no va a correr y se quita de la cola para liberar el lugar. Si ya arrancó no se
+            // interrumpe (BCrypt lo ignoraría): el hilo queda ocupado hasta que termine ese hash
+            future.cancel(false);
+            executor.remove((Runnable) future);
+            throw rechazar(operacion, "tiempo de espera agotado");
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw rechazar(operacion, "hilo interrumpido");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            timers.get(operacion).record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public int queueSize() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private PasswordHashingOverloadException rechazar(final Operacion operacion, final String motivo) {
+        rechazos.increment();
+        log.warn("[ForoHub/Security] - Hash de contraseña rechazado ({}): {}", operacion.tag(), motivo);
+        return new PasswordHashingOverloadException(
+                "El servicio de autenticación está saturado, intente nuevamente más tarde", retryAfterSeconds);
+    }
+}
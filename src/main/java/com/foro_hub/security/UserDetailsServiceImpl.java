@@ -1,28 +1,64 @@
 package com.foro_hub.security;
 
+import com.foro_hub.config.CacheConfig;
+import com.foro_hub.domain.Usuario;
 import com.foro_hub.repository.UsuarioRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UsuarioRepository usuarioRepository;
 
+    // Se cachea una copia desacoplada del contexto de persistencia; UsuarioCacheListener la invalida
+    // cuando el usuario cambia y el TTL de spring.cache.caffeine.spec acota cualquier dato desactualizado
     @Override
+    @Cacheable(cacheNames = CacheConfig.USUARIOS_CACHE, key = "#email")
     public UserDetails loadUserByUsername(final String email) throws UsernameNotFoundException {
-        log.info("[ForoHub/Security] - Buscando usuario por email: {}", email);
+        log.debug("[ForoHub/Security] - Buscando usuario por email: {}", email);
 
         return usuarioRepository.findByEmail(email)
+                .map(UserDetailsServiceImpl::snapshot)
                 .orElseThrow(() -> {
                     log.error("[ForoHub/Security] - Usuario no encontrado con email: {}", email);
                     return new UsernameNotFoundException("Usuario no encontrado con email: " + email);
                 });
     }
+
+    // Lo invoca DaoAuthenticationProvider tras un login exitoso cuando upgradeEncoding indica que el hash
+    // guardado está desactualizado; UsuarioCacheListener invalida el usuario cacheado al confirmar la transacción
+    @Override
+    @Transactional
+    public UserDetails updatePassword(final UserDetails user, final String newPassword) {
+        final Usuario usuario = usuarioRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado con email: " + user.getUsername()));
+
+        usuario.setContrasena(newPassword);
+        log.info("[ForoHub/Security] - Hash de contraseña actualizado para usuario: {}", usuario.getEmail());
+
+        return snapshot(usuarioRepository.save(usuario));
+    }
+
+    private static Usuario snapshot(final Usuario usuario) {
+        return Usuario.builder()
+                .withId(usuario.getId())
+                .withNombre(usuario.getNombre())
+                .withEmail(usuario.getEmail())
+                .withContrasena(usuario.getContrasena())
+                .withPerfiles(Set.copyOf(usuario.getPerfiles()))
+                .withActivo(usuario.getActivo())
+                .build();
+    }
 }
@@ -0,0 +1,52 @@
+package com.foro_hub.security;
+
+import com.foro_hub.config.CacheConfig;
+import com.foro_hub.domain.Usuario;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Invalida el usuario cacheado por UserDetailsServiceImpl ante cualquier cambio persistido (desactivación, cambio
+// de perfiles, contraseña). Un cambio solo de perfiles llega como @PostUpdate porque Usuario tiene @Version.
+// La eviction se hace después del commit para no volver a cachear el estado anterior.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UsuarioCacheListener {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    @PostUpdate
+    @PostRemove
+    void onUsuarioModificado(final Usuario usuario) {
+        final String email = usuario.getEmail();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(email);
+                }
+            });
+        } else {
+            evict(email);
+        }
+    }
+
+    public void evict(final String email) {
+        final CacheManager manager = cacheManager.getIfAvailable();
+        final Cache cache = manager != null ? manager.getCache(CacheConfig.USUARIOS_CACHE) : null;
+
+        if (cache != null) {
+            cache.evict(email);
+            log.debug("[ForoHub/Security] - Usuario removido del cache: {}", email);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.foro_hub.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+// Cache acotado de tokens ya verificados: un cliente que repite el mismo bearer paga HMAC + parseo JSON una sola vez.
+// La clave es el SHA-256 del token (no se retienen tokens en memoria) y cada entrada expira junto con el token.
+// Con max-size = 0 el cache queda deshabilitado y cada llamada verifica el token.
+@Component
+public class VerifiedTokenCache {
+
+    public static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private final Cache<String, Claims> cache;
+    private final boolean habilitado;
+
+    public VerifiedTokenCache(@Value("${api.security.token.cache.max-size:10000}") final long maxSize,
+                              final MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String digest, Claims claims) -> tiempoRestante(claims)))
+                .recordStats()
+                .build();
+        this.habilitado = maxSize > 0;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // Si el verificador lanza una excepción (token inválido o expirado) no se guarda nada en cache
+    public Claims get(final String token, final Function<String, Claims> verificador) {
+        if (!habilitado) {
+            return verificador.apply(token);
+        }
+        return cache.get(digest(token), key -> verificador.apply(token));
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    public double hitRate() {
+        return cache.stats().hitRate();
+    }
+
+    private static Duration tiempoRestante(final Claims claims) {
+        if (claims.getExpiration() == null) {
+            return Duration.ZERO;
+        }
+
+        final Duration restante = Duration.between(Instant.now(), claims.getExpiration().toInstant());
+        return restante.isNegative() ? Duration.ZERO : restante;
+    }
+
+    private static String digest(final String token) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible en la JVM", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.foro_hub.service;
 
+import com.foro_hub.config.CacheConfig;
 import com.foro_hub.domain.Perfil;
 import com.foro_hub.domain.Usuario;
 import com.foro_hub.dto.auth.AuthResponseDTO;
@@ -13,6 +14,7 @@ import com.foro_hub.repository.UsuarioRepository;
 import com.foro_hub.security.JwtService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -35,8 +37,9 @@ public class AuthService {
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
 
+    @CacheEvict(cacheNames = CacheConfig.USUARIOS_CACHE, key = "#request.email()")
     public RegisterResponseDTO register(final RegisterRequestDTO request) {
-        log.info("[ForoHub/Auth] - Registrando nuevo usuario con email: {}", request.email());
+        log.debug("[ForoHub/Auth] - Registrando nuevo usuario con email: {}", request.email());
 
         final boolean emailExists = usuarioRepository.existsByEmail(request.email());
         if (emailExists) {
@@ -69,7 +72,7 @@ public class AuthService {
     }
 
     public AuthResponseDTO login(final LoginRequestDTO request) {
-        log.info("[ForoHub/Auth] - Intento de login para email: {}", request.email());
+        log.debug("[ForoHub/Auth] - Intento de login para email: {}", request.email());
 
         final Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.email(), request.contrasena())
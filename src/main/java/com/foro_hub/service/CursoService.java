@@ -4,16 +4,26 @@ import com.foro_hub.domain.Curso;
 import com.foro_hub.dto.curso.CursoCreateDTO;
 import com.foro_hub.dto.curso.CursoResponseDTO;
 import com.foro_hub.dto.curso.CursoUpdateDTO;
+import com.foro_hub.dto.pagination.CursorPageDTO;
+import com.foro_hub.exception.PreconditionFailedException;
 import com.foro_hub.exception.ResourceNotFoundException;
 import com.foro_hub.mapper.CursoMapper;
 import com.foro_hub.repository.CursoRepository;
+import com.foro_hub.repository.projection.CursoVersion;
+import com.foro_hub.util.KeysetPagination;
+import com.foro_hub.util.VersionRecurso;
+import com.foro_hub.util.Versionado;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -21,9 +31,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class CursoService {
 
     private final CursoRepository cursoRepository;
+    private final ReintentoOptimista reintentoOptimista;
 
     public CursoResponseDTO crearCurso(final CursoCreateDTO createDTO) {
-        log.info("Creando curso con nombre: {}", createDTO.nombre());
+        log.debug("Creando curso con nombre: {}", createDTO.nombre());
 
         final Curso cursoGuardado = cursoRepository.save(CursoMapper.toEntity(createDTO));
         log.info("Curso creado con ID: {}", cursoGuardado.getId());
@@ -33,7 +44,7 @@ public class CursoService {
 
     @Transactional(readOnly = true)
     public CursoResponseDTO obtenerCursoPorId(Long id) {
-        log.info("Buscando curso con id: {}", id);
+        log.debug("Buscando curso con id: {}", id);
 
         final Curso curso = cursoRepository.findByIdAndActivoTrue(id)
                 .orElseThrow(() -> new ResourceNotFoundException("No se encontró el curso con ID: " + id));
@@ -41,35 +52,93 @@ public class CursoService {
         return CursoMapper.toResponseDTO(curso);
     }
 
+    // Versión y cuerpo salen de la misma transacción readOnly (y de la misma conexión), así el ETag corresponde
+    // siempre al curso devuelto. Si noModificado acepta la versión el curso no se lee y el cuerpo queda en null
     @Transactional(readOnly = true)
-    public Page<CursoResponseDTO> listarCursos(final Pageable pageable) {
-        log.info("Listando todos los cursos con paginación: {}", pageable);
+    public Versionado<CursoResponseDTO> obtenerCursoPorId(final Long id, final Predicate<VersionRecurso> noModificado) {
+        final VersionRecurso version = obtenerVersion(id);
+        if (noModificado.test(version)) {
+            return new Versionado<>(null, version);
+        }
 
-        return cursoRepository.findByActivoTrue(pageable)
-                .map(CursoMapper::toResponseDTO);
+        return new Versionado<>(obtenerCursoPorId(id), version);
     }
 
-    public CursoResponseDTO actualizarCurso(final Long id, final CursoUpdateDTO updateDTO) {
-        log.info("Actualizando curso con id: {}", id);
-
-        final Curso curso = cursoRepository.findByIdAndActivoTrue(id)
+    private VersionRecurso obtenerVersion(final Long id) {
+        final CursoVersion version = cursoRepository.findVersion(id)
                 .orElseThrow(() -> new ResourceNotFoundException("No se encontró el curso con ID: " + id));
 
-        CursoMapper.updateEntityFromDTO(curso, updateDTO);
-        final Curso cursoActualizado = cursoRepository.save(curso);
+        return VersionRecurso.of(version.fechaModificacion(), version.version());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<CursoResponseDTO> listarCursos(final Pageable pageable) {
+        log.debug("Listando todos los cursos con paginación: {}", pageable);
+
+        return cursoRepository.findActivos(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<CursoResponseDTO> listarCursosPorCursor(final String cursor, final Integer size) {
+        log.debug("Listando cursos con paginación por cursor");
+
+        final KeysetPagination.Cursor posicion = KeysetPagination.decode(cursor);
+        final int tamanio = KeysetPagination.normalizarSize(size);
+        final Pageable limite = KeysetPagination.limite(tamanio);
+
+        final List<Curso> cursos;
+        if (posicion == null) {
+            cursos = cursoRepository.findByActivoTrueOrderByNombreAscIdAsc(limite);
+        } else if (posicion.direction() == KeysetPagination.Direction.PREVIOUS) {
+            cursos = cursoRepository.findActivosAntesDe(posicion.key(), posicion.id(), limite);
+        } else {
+            cursos = cursoRepository.findActivosDespuesDe(posicion.key(), posicion.id(), limite);
+        }
+
+        return KeysetPagination.construirPagina(
+                cursos,
+                posicion,
+                tamanio,
+                Curso::getNombre,
+                Curso::getId,
+                CursoMapper::toResponseDTO);
+    }
+
+    // Mismo criterio que TopicoService.actualizarTopico: un conflicto de versión no se reintenta, llega como 409
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Versionado<CursoResponseDTO> actualizarCurso(final Long id, final CursoUpdateDTO updateDTO, final Long versionEsperada) {
+        log.debug("Actualizando curso con id: {}", id);
+
+        final Versionado<CursoResponseDTO> response = reintentoOptimista.ejecutar(false, () -> {
+            final Curso curso = cursoRepository.findByIdAndActivoTrue(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("No se encontró el curso con ID: " + id));
+
+            if (versionEsperada != null && !versionEsperada.equals(curso.getVersion())) {
+                log.warn("Version del curso con ID: {} no coincide con If-Match (esperada: {}, actual: {})",
+                        id, versionEsperada, curso.getVersion());
+                throw new PreconditionFailedException("El curso fue modificado por otra solicitud. Volvé a consultarlo antes de editarlo.");
+            }
+
+            // Entidad gestionada, sin merge: el flush adelanta el UPDATE y la versión del ETag es la que escribió
+            // esta transacción
+            CursoMapper.updateEntityFromDTO(curso, updateDTO);
+            cursoRepository.flush();
+            return new Versionado<>(
+                    CursoMapper.toResponseDTO(curso),
+                    VersionRecurso.of(curso.getFechaModificacion(), curso.getVersion()));
+        });
         log.info("Curso actualizado con ID: {}", id);
 
-        return CursoMapper.toResponseDTO(cursoActualizado);
+        return response;
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void eliminarCurso(final Long id) {
-        log.info("Eliminando curso con id: {}", id);
-
-        final Curso curso = cursoRepository.findByIdAndActivoTrue(id)
-                .orElseThrow(() -> new ResourceNotFoundException("No se encontró el curso con ID: " + id));
+        log.debug("Eliminando curso con id: {}", id);
 
-        curso.setActivo(false);
-        cursoRepository.save(curso);
+        reintentoOptimista.ejecutarSinResultado(true, () -> cursoRepository.findByIdAndActivoTrue(id)
+                .orElseThrow(() -> new ResourceNotFoundException("No se encontró el curso con ID: " + id))
+                .setActivo(false));
 
         log.info("Curso eliminado (soft delete) exitosamente con id: {}", id);
     }
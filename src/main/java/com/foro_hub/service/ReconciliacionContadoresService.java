@@ -0,0 +1,62 @@
+package com.foro_hub.service;
+
+import com.foro_hub.repository.TopicoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Recalcula respuestas_count, soluciones_count y ultima_respuesta_fecha desde la tabla respuestas.
+// Recorre los tópicos en lotes por id, cada lote en su propia transacción, para no bloquear la tabla completa.
+@Service
+@Slf4j
+public class ReconciliacionContadoresService {
+
+    private final TopicoRepository topicoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ReconciliacionContadoresService(final TopicoRepository topicoRepository,
+                                           final PlatformTransactionManager transactionManager,
+                                           @Value("${api.topicos.reconciliacion.batch-size:500}") final int batchSize) {
+        this.topicoRepository = topicoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${api.topicos.reconciliacion.cron:0 30 3 * * *}")
+    public void reconciliar() {
+        log.info("[ForoHub/Contadores] Iniciando reconciliación de contadores de respuestas");
+
+        long ultimoId = 0;
+        int topicos = 0;
+        int lotes = 0;
+        final AtomicInteger corregidos = new AtomicInteger();
+        List<Long> ids;
+
+        do {
+            final long desde = ultimoId;
+            ids = transactionTemplate.execute(status -> {
+                final List<Long> lote = topicoRepository.findIdsDespuesDe(desde, PageRequest.of(0, batchSize));
+                if (!lote.isEmpty()) {
+                    corregidos.addAndGet(topicoRepository.recalcularContadores(lote));
+                }
+                return lote;
+            });
+
+            if (ids != null && !ids.isEmpty()) {
+                ultimoId = ids.get(ids.size() - 1);
+                topicos += ids.size();
+                lotes++;
+            }
+        } while (ids != null && ids.size() == batchSize);
+
+        log.info("[ForoHub/Contadores] Reconciliación finalizada: {} tópicos en {} lotes, {} corregidos", topicos, lotes, corregidos.get());
+    }
+}
@@ -0,0 +1,63 @@
+package com.foro_hub.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// Ejecuta una escritura en su propia transacción y, si el commit choca con otra escritura sobre la misma
+// versión (@Version), la repite desde cero: cada intento relee las filas, así que solo sirve para operaciones
+// idempotentes (asignar valores absolutos, no sumar). El rollback limpia el contexto de persistencia, por lo que
+// el reintento no ve entidades viejas aunque el EntityManager sea el de la request.
+@Component
+@Slf4j
+public class ReintentoOptimista {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxIntentos;
+
+    public ReintentoOptimista(final PlatformTransactionManager transactionManager,
+                              @Value("${api.concurrencia.max-intentos:3}") final int maxIntentos) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxIntentos = maxIntentos;
+    }
+
+    // Con reintentar en false se ejecuta una sola vez y el conflicto llega al cliente (409)
+    public <T> T ejecutar(final boolean reintentar, final Supplier<T> operacion) {
+        final int intentos = reintentar ? maxIntentos : 1;
+
+        for (int intento = 1; ; intento++) {
+            try {
+                return transactionTemplate.execute(status -> operacion.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (intento >= intentos) {
+                    throw e;
+                }
+                log.warn("[ForoHub/Concurrencia] - Conflicto de versión, reintento {} de {}", intento + 1, intentos);
+                esperar(intento);
+            }
+        }
+    }
+
+    public void ejecutarSinResultado(final boolean reintentar, final Runnable operacion) {
+        ejecutar(reintentar, () -> {
+            operacion.run();
+            return null;
+        });
+    }
+
+    // Espera corta y aleatoria para que dos requests en conflicto no vuelvan a chocar en el mismo instante
+    private static void esperar(final int intento) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(5, 20L * intento + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reintento interrumpido", e);
+        }
+    }
+}
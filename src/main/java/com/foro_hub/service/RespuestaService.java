@@ -0,0 +1,142 @@
+package com.foro_hub.service;
+
+import com.foro_hub.domain.Respuesta;
+import com.foro_hub.domain.Topico;
+import com.foro_hub.domain.Usuario;
+import com.foro_hub.dto.pagination.CursorPageDTO;
+import com.foro_hub.dto.respuesta.RespuestaCreateDTO;
+import com.foro_hub.dto.respuesta.RespuestaResponseDTO;
+import com.foro_hub.dto.respuesta.RespuestaUpdateDTO;
+import com.foro_hub.exception.ResourceNotFoundException;
+import com.foro_hub.mapper.RespuestaMapper;
+import com.foro_hub.repository.RespuestaRepository;
+import com.foro_hub.repository.TopicoRepository;
+import com.foro_hub.repository.UsuarioRepository;
+import com.foro_hub.security.AuthenticatedUser;
+import com.foro_hub.util.AuthenticationUtils;
+import com.foro_hub.util.KeysetPagination;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class RespuestaService {
+
+    private final RespuestaRepository respuestaRepository;
+    private final TopicoRepository topicoRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final TopicoSearchService topicoSearchService;
+    private final ReintentoOptimista reintentoOptimista;
+
+    public RespuestaResponseDTO crearRespuesta(final Long topicoId, final RespuestaCreateDTO createDTO) {
+        log.debug("Creando Respuesta para el Topico con ID: {}", topicoId);
+
+        final Topico topico = topicoRepository.findByIdAndActivoTrue(topicoId)
+                .orElseThrow(() -> new ResourceNotFoundException("No se encontró el tópico con ID: " + topicoId));
+
+        final AuthenticatedUser usuarioAutenticado = AuthenticationUtils.getAuthenticatedUser();
+        final Usuario autor = usuarioRepository.getReferenceById(usuarioAutenticado.id());
+
+        final Respuesta respuestaGuardada = respuestaRepository.save(RespuestaMapper.toEntity(createDTO, topico, autor));
+        topicoRepository.incrementarRespuestas(topicoId, respuestaGuardada.getFechaCreacion());
+        topicoSearchService.programarReindexacion(topicoId);
+        log.info("Respuesta creada exitosamente con ID: {}", respuestaGuardada.getId());
+
+        return RespuestaMapper.toResponseDTO(respuestaGuardada);
+    }
+
+    @Transactional(readOnly = true)
+    public RespuestaResponseDTO obtenerRespuestaPorId(final Long topicoId, final Long id) {
+        log.debug("Obteniendo Respuesta con ID: {} del Topico con ID: {}", id, topicoId);
+
+        return RespuestaMapper.toResponseDTO(buscarRespuesta(topicoId, id));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RespuestaResponseDTO> listarRespuestasPorCursor(final Long topicoId, final String cursor, final Integer size) {
+        log.debug("Listando Respuestas del Topico con ID: {} con paginación por cursor", topicoId);
+
+        if (!topicoRepository.existsByIdAndActivoTrue(topicoId)) {
+            throw new ResourceNotFoundException("No se encontró el tópico con ID: " + topicoId);
+        }
+
+        final KeysetPagination.Cursor posicion = KeysetPagination.decode(cursor);
+        final int tamanio = KeysetPagination.normalizarSize(size);
+        final Pageable limite = KeysetPagination.limite(tamanio);
+
+        final List<Respuesta> respuestas;
+        if (posicion == null) {
+            respuestas = respuestaRepository.findByTopicoIdAndActivoTrueOrderByFechaCreacionAscIdAsc(topicoId, limite);
+        } else if (posicion.direction() == KeysetPagination.Direction.PREVIOUS) {
+            respuestas = respuestaRepository.findDeTopicoAntesDe(topicoId, posicion.keyAsDateTime(), posicion.id(), limite);
+        } else {
+            respuestas = respuestaRepository.findDeTopicoDespuesDe(topicoId, posicion.keyAsDateTime(), posicion.id(), limite);
+        }
+
+        return KeysetPagination.construirPagina(
+                respuestas,
+                posicion,
+                tamanio,
+                respuesta -> respuesta.getFechaCreacion().toString(),
+                Respuesta::getId,
+                RespuestaMapper::toResponseDTO);
+    }
+
+    // Marcar la solución pasa el tópico a RESUELTO, y esa escritura compite con los contadores que actualizan otras
+    // respuestas. Todo se recalcula en cada intento (mensaje y estado son valores absolutos, el ajuste de soluciones
+    // depende de lo releído), así que ante un conflicto de versión se reintenta en vez de devolver 409
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RespuestaResponseDTO actualizarRespuesta(final Long topicoId, final Long id, final RespuestaUpdateDTO dto) {
+        log.debug("Actualizando Respuesta con ID: {} del Topico con ID: {}", id, topicoId);
+
+        return reintentoOptimista.ejecutar(true, () -> aplicarActualizacion(topicoId, id, dto));
+    }
+
+    private RespuestaResponseDTO aplicarActualizacion(final Long topicoId, final Long id, final RespuestaUpdateDTO dto) {
+        final Respuesta respuesta = buscarRespuesta(topicoId, id);
+        final boolean eraSolucion = respuesta.getSolucion();
+        RespuestaMapper.updateEntityFromDTO(respuesta, dto);
+
+        if (respuesta.getSolucion() != eraSolucion) {
+            topicoRepository.ajustarSoluciones(topicoId, respuesta.getSolucion() ? 1 : -1);
+        }
+
+        if (Boolean.TRUE.equals(dto.solucion()) && topicoRepository.marcarResuelto(topicoId) > 0) {
+            log.info("Topico con ID: {} marcado como RESUELTO", topicoId);
+        }
+
+        topicoSearchService.programarReindexacion(topicoId);
+        log.info("Respuesta actualizada exitosamente con ID: {}", id);
+
+        return RespuestaMapper.toResponseDTO(respuesta);
+    }
+
+    public void eliminarRespuesta(final Long topicoId, final Long id) {
+        log.debug("Eliminando Respuesta con ID: {} del Topico con ID: {}", id, topicoId);
+
+        final Respuesta respuesta = buscarRespuesta(topicoId, id);
+        respuesta.setActivo(false);
+
+        topicoRepository.decrementarRespuestas(topicoId);
+        if (respuesta.getSolucion()) {
+            topicoRepository.ajustarSoluciones(topicoId, -1);
+        }
+
+        topicoSearchService.programarReindexacion(topicoId);
+        log.info("Respuesta eliminada (soft delete) exitosamente con ID: {}", id);
+    }
+
+    private Respuesta buscarRespuesta(final Long topicoId, final Long id) {
+        return respuestaRepository.findDeTopicoActivo(id, topicoId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "No se encontró la respuesta con ID: " + id + " en el tópico con ID: " + topicoId));
+    }
+}
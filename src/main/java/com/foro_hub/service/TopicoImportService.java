@@ -0,0 +1,238 @@
+package com.foro_hub.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.foro_hub.domain.Curso;
+import com.foro_hub.domain.Topico;
+import com.foro_hub.domain.Usuario;
+import com.foro_hub.domain.enums.StatusTopico;
+import com.foro_hub.dto.topico.TopicoCreateDTO;
+import com.foro_hub.dto.topico.TopicoImportItemDTO;
+import com.foro_hub.dto.topico.TopicoImportItemDTO.Resultado;
+import com.foro_hub.dto.topico.TopicoImportResultadoDTO;
+import com.foro_hub.repository.CursoRepository;
+import com.foro_hub.repository.TopicoRepository;
+import com.foro_hub.repository.UsuarioRepository;
+import com.foro_hub.util.AuthenticationUtils;
+import com.foro_hub.util.ContenidoHashUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// POST /topicos/bulk: lee el NDJSON línea por línea y procesa lotes de tamanioLote registros, así en memoria nunca
+// hay más de un lote (más el resultado de cada línea). Cada lote se valida, se deduplica contra contenido_hash con
+// una sola consulta, se resuelven sus cursos con otra y se inserta en batches JDBC en su propia transacción:
+// un lote confirmado no se pierde si un lote posterior falla.
+@Service
+@Slf4j
+public class TopicoImportService {
+
+    private final TopicoRepository topicoRepository;
+    private final CursoRepository cursoRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final TopicoSearchService topicoSearchService;
+    private final Validator validator;
+    private final ObjectReader lector;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanioLote;
+
+    public TopicoImportService(final TopicoRepository topicoRepository,
+                               final CursoRepository cursoRepository,
+                               final UsuarioRepository usuarioRepository,
+                               final TopicoSearchService topicoSearchService,
+                               final Validator validator,
+                               final ObjectMapper objectMapper,
+                               final PlatformTransactionManager transactionManager,
+                               @Value("${api.topicos.importacion.lote:1000}") final int tamanioLote) {
+        this.topicoRepository = topicoRepository;
+        this.cursoRepository = cursoRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.topicoSearchService = topicoSearchService;
+        this.validator = validator;
+        this.lector = objectMapper.readerFor(TopicoCreateDTO.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanioLote = tamanioLote;
+    }
+
+    public TopicoImportResultadoDTO importar(final InputStream ndjson) throws IOException {
+        final long inicio = System.nanoTime();
+        final Long autorId = AuthenticationUtils.getAuthenticatedUser().id();
+        final List<TopicoImportItemDTO> resultados = new ArrayList<>();
+        final List<Registro> lote = new ArrayList<>(tamanioLote);
+
+        final BufferedReader lineas = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        String texto;
+        int linea = 0;
+        while ((texto = lineas.readLine()) != null) {
+            linea++;
+            if (texto.isBlank()) {
+                continue;
+            }
+
+            lote.add(leer(linea, texto));
+            if (lote.size() == tamanioLote) {
+                resultados.addAll(procesarLote(lote, autorId));
+                lote.clear();
+            }
+        }
+        resultados.addAll(procesarLote(lote, autorId));
+
+        final Map<Resultado, Long> conteo = resultados.stream()
+                .collect(Collectors.groupingBy(TopicoImportItemDTO::resultado, Collectors.counting()));
+        final TopicoImportResultadoDTO resumen = TopicoImportResultadoDTO.builder()
+                .withProcesados(resultados.size())
+                .withCreados(conteo.getOrDefault(Resultado.CREADO, 0L).intValue())
+                .withDuplicados(conteo.getOrDefault(Resultado.DUPLICADO, 0L).intValue())
+                .withInvalidos(conteo.getOrDefault(Resultado.INVALIDO, 0L).intValue())
+                .withResultados(resultados)
+                .build();
+
+        log.info("Importacion de topicos finalizada: {} procesados, {} creados, {} duplicados, {} invalidos en {} ms",
+                resumen.procesados(), resumen.creados(), resumen.duplicados(), resumen.invalidos(),
+                (System.nanoTime() - inicio) / 1_000_000);
+
+        return resumen;
+    }
+
+    // Parseo y Bean Validation no tocan la base: una línea inválida se descarta sin afectar al resto del lote
+    private Registro leer(final int linea, final String texto) {
+        final TopicoCreateDTO dto;
+        try {
+            dto = lector.readValue(texto);
+        } catch (JsonProcessingException e) {
+            return Registro.invalido(linea, "JSON inválido: " + e.getOriginalMessage());
+        }
+
+        final Set<ConstraintViolation<TopicoCreateDTO>> errores = validator.validate(dto);
+        if (!errores.isEmpty()) {
+            return Registro.invalido(linea, errores.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        return new Registro(linea, dto, ContenidoHashUtils.calcular(dto.titulo(), dto.mensaje()), null);
+    }
+
+    private List<TopicoImportItemDTO> procesarLote(final List<Registro> lote, final Long autorId) {
+        if (lote.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            return transactionTemplate.execute(status -> insertarLote(lote, autorId));
+        } catch (DataIntegrityViolationException e) {
+            // Otro request insertó el mismo contenido entre la consulta de hashes y el batch: el lote se revirtió
+            // completo. Se repite fila por fila, cada una en su transacción, para que un nuevo choque solo afecte
+            // a su línea y no a los lotes ya confirmados ni al resto de este
+            log.warn("Lote de importacion rechazado por la base ({} lineas), se reintenta fila por fila", lote.size());
+            return lote.stream().map(registro -> insertarFila(registro, autorId)).toList();
+        }
+    }
+
+    private TopicoImportItemDTO insertarFila(final Registro registro, final Long autorId) {
+        try {
+            return transactionTemplate.execute(status -> insertarLote(List.of(registro), autorId)).get(0);
+        } catch (DataIntegrityViolationException e) {
+            if (ContenidoHashUtils.esContenidoDuplicado(e)) {
+                return item(registro, Resultado.DUPLICADO, null, "Ya existe un tópico con el mismo título y mensaje.");
+            }
+
+            log.warn("Linea {} de la importacion rechazada por la base: {}", registro.linea(), e.getMostSpecificCause().getMessage());
+            return item(registro, Resultado.INVALIDO, null, "La base de datos rechazó el registro.");
+        }
+    }
+
+    private List<TopicoImportItemDTO> insertarLote(final List<Registro> lote, final Long autorId) {
+        final List<Registro> validos = lote.stream().filter(registro -> registro.error() == null).toList();
+
+        final Set<String> existentes = validos.isEmpty()
+                ? Set.of()
+                : new HashSet<>(topicoRepository.findContenidoHashExistentes(
+                        validos.stream().map(Registro::contenidoHash).collect(Collectors.toSet())));
+        final Map<Long, Curso> cursos = validos.isEmpty()
+                ? Map.of()
+                : cursoRepository.findByIdInAndActivoTrue(validos.stream().map(registro -> registro.dto().idCurso()).collect(Collectors.toSet()))
+                        .stream()
+                        .collect(Collectors.toMap(Curso::getId, Function.identity()));
+
+        // Referencia perezosa: solo se necesita el id del autor para la FK
+        final Usuario autor = usuarioRepository.getReferenceById(autorId);
+        final LocalDateTime ahora = LocalDateTime.now();
+        final Set<String> vistos = new HashSet<>();
+        final Map<Registro, Topico> nuevos = new LinkedHashMap<>();
+        final List<TopicoImportItemDTO> resultados = new ArrayList<>(lote.size());
+
+        for (Registro registro : lote) {
+            if (registro.error() != null) {
+                resultados.add(item(registro, Resultado.INVALIDO, null, registro.error()));
+            } else if (existentes.contains(registro.contenidoHash()) || !vistos.add(registro.contenidoHash())) {
+                resultados.add(item(registro, Resultado.DUPLICADO, null, "Ya existe un tópico con el mismo título y mensaje."));
+            } else if (!cursos.containsKey(registro.dto().idCurso())) {
+                resultados.add(item(registro, Resultado.INVALIDO, null, "No se encontró el curso con ID: " + registro.dto().idCurso()));
+            } else {
+                nuevos.put(registro, Topico.builder()
+                        .withTitulo(registro.dto().titulo())
+                        .withMensaje(registro.dto().mensaje())
+                        .withFechaCreacion(ahora)
+                        .withStatus(StatusTopico.ABIERTO)
+                        .withAutor(autor)
+                        .withCurso(cursos.get(registro.dto().idCurso()))
+                        .withActivo(true)
+                        .withContenidoHash(registro.contenidoHash())
+                        .withFechaModificacion(ahora)
+                        .build());
+                resultados.add(null);
+            }
+        }
+
+        final List<Topico> topicos = List.copyOf(nuevos.values());
+        if (!topicos.isEmpty()) {
+            topicoRepository.insertarEnLote(topicos);
+            topicoSearchService.programarIndexacion(topicos);
+        }
+
+        // Completa los huecos reservados para las líneas insertadas, ya con su id
+        final Iterator<Map.Entry<Registro, Topico>> creados = nuevos.entrySet().iterator();
+        for (int i = 0; i < resultados.size(); i++) {
+            if (resultados.get(i) == null) {
+                final Map.Entry<Registro, Topico> creado = creados.next();
+                resultados.set(i, item(creado.getKey(), Resultado.CREADO, creado.getValue().getId(), null));
+            }
+        }
+
+        return resultados;
+    }
+
+    private static TopicoImportItemDTO item(final Registro registro, final Resultado resultado, final Long id, final String detalle) {
+        return TopicoImportItemDTO.builder()
+                .withLinea(registro.linea())
+                .withResultado(resultado)
+                .withId(id)
+                .withDetalle(detalle)
+                .build();
+    }
+
+    private record Registro(int linea, TopicoCreateDTO dto, String contenidoHash, String error) {
+
+        static Registro invalido(final int linea, final String error) {
+            return new Registro(linea, null, null, error);
+        }
+    }
+}
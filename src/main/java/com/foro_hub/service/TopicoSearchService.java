@@ -0,0 +1,207 @@
+package com.foro_hub.service;
+
+import com.foro_hub.domain.Topico;
+import com.foro_hub.domain.enums.StatusTopico;
+import com.foro_hub.dto.pagination.CursorPageDTO;
+import com.foro_hub.dto.topico.TopicoSearchResultDTO;
+import com.foro_hub.exception.InvalidCursorException;
+import com.foro_hub.exception.InvalidSearchQueryException;
+import com.foro_hub.repository.RespuestaRepository;
+import com.foro_hub.repository.TopicoRepository;
+import com.foro_hub.repository.projection.RespuestaMensaje;
+import com.foro_hub.search.TopicoDocumento;
+import com.foro_hub.search.TopicoSearchIndex;
+import com.foro_hub.util.KeysetPagination;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Mantiene TopicoSearchIndex sincronizado con la base y resuelve GET /topicos/search.
+// Las escrituras solo programan la reindexación por id: después del commit se relee el estado confirmado del tópico
+// (con sus respuestas activas), así un rollback nunca llega al índice.
+@Service
+@Slf4j
+public class TopicoSearchService {
+
+    public static final int MAX_LONGITUD_CONSULTA = 200;
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TopicoSearchIndex index;
+    private final TopicoRepository topicoRepository;
+    private final RespuestaRepository respuestaRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public TopicoSearchService(final TopicoSearchIndex index,
+                               final TopicoRepository topicoRepository,
+                               final RespuestaRepository respuestaRepository,
+                               final PlatformTransactionManager transactionManager) {
+        this.index = index;
+        this.topicoRepository = topicoRepository;
+        this.respuestaRepository = respuestaRepository;
+        // afterCommit todavía tiene enlazados los recursos de la transacción terminada: la lectura va en una nueva.
+        // No es readOnly a propósito: esas van a la réplica, que puede no tener todavía la escritura recién confirmada
+        // (un tópico nuevo se eliminaría del índice y una edición se indexaría con el contenido anterior)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void programarReindexacion(final Long topicoId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reindexar(topicoId);
+                }
+            });
+        } else {
+            reindexar(topicoId);
+        }
+    }
+
+    // Tópicos recién creados por la importación masiva: todavía no tienen respuestas, así que el documento se arma con
+    // lo que ya está en memoria y se agrega al índice en bloque después del commit, sin releer cada tópico
+    public void programarIndexacion(final List<Topico> topicos) {
+        final List<TopicoDocumento> documentos = topicos.stream()
+                .map(topico -> toDocumento(topico, List.of()))
+                .toList();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    index.indexar(documentos);
+                } catch (RuntimeException e) {
+                    log.error("[ForoHub/Search] - No se pudieron indexar {} tópicos importados", documentos.size(), e);
+                }
+            }
+        });
+    }
+
+    // Un fallo acá no debe convertir en error una escritura ya confirmada: se registra y el próximo cambio del
+    // tópico lo corrige. El documento queda visible en el próximo refresco y en disco en el próximo commit
+    public void reindexar(final Long topicoId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> topicoRepository.findByIdAndActivoTrue(topicoId)
+                    .ifPresentOrElse(
+                            topico -> index.indexar(toDocumento(topico, mensajesActivos(List.of(topicoId)).get(topicoId))),
+                            () -> index.eliminar(topicoId)));
+        } catch (RuntimeException e) {
+            log.error("[ForoHub/Search] - No se pudo reindexar el tópico con ID: {}", topicoId, e);
+        }
+    }
+
+    // Al iniciar solo se reconstruye si el índice en disco no existe o no se cerró ordenadamente; si no,
+    // ya refleja todo lo confirmado hasta el apagado
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializarIndice() {
+        if (index.requiereReconstruccion()) {
+            reconstruirIndice();
+        } else {
+            log.info("[ForoHub/Search] - Índice de búsqueda existente: {} tópicos", index.cantidadDocumentos());
+        }
+    }
+
+    // Recorre topicos en lotes por id: en memoria nunca hay más de un lote, y el commit va una sola vez al final
+    public void reconstruirIndice() {
+        final long inicio = System.nanoTime();
+        index.eliminarTodo();
+
+        long ultimoId = 0;
+        int indexados = 0;
+        List<TopicoDocumento> lote;
+
+        do {
+            final long desde = ultimoId;
+            lote = transactionTemplate.execute(status -> {
+                final List<Topico> topicos = topicoRepository.findActivosParaIndexar(desde, PageRequest.of(0, BATCH_SIZE));
+                final Map<Long, List<String>> respuestas = mensajesActivos(topicos.stream().map(Topico::getId).toList());
+                return topicos.stream()
+                        .map(topico -> toDocumento(topico, respuestas.get(topico.getId())))
+                        .toList();
+            });
+
+            if (lote != null && !lote.isEmpty()) {
+                index.indexar(lote);
+                ultimoId = lote.get(lote.size() - 1).id();
+                indexados += lote.size();
+            }
+        } while (lote != null && lote.size() == BATCH_SIZE);
+
+        index.confirmar();
+
+        log.info("[ForoHub/Search] - Índice de búsqueda reconstruido: {} tópicos en {} ms",
+                indexados, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    public CursorPageDTO<TopicoSearchResultDTO> buscar(final String q,
+                                                       final Long cursoId,
+                                                       final StatusTopico status,
+                                                       final String cursor,
+                                                       final Integer size) {
+        if (!StringUtils.hasText(q)) {
+            throw new InvalidSearchQueryException("El parámetro q es obligatorio");
+        }
+        if (q.length() > MAX_LONGITUD_CONSULTA) {
+            throw new InvalidSearchQueryException("El parámetro q no puede superar los " + MAX_LONGITUD_CONSULTA + " caracteres");
+        }
+
+        final KeysetPagination.Cursor posicion = KeysetPagination.decode(cursor);
+        if (posicion != null && posicion.direction() == KeysetPagination.Direction.PREVIOUS) {
+            throw new InvalidCursorException("La búsqueda solo admite cursores hacia adelante");
+        }
+
+        final int tamanio = KeysetPagination.normalizarSize(size);
+        final List<TopicoSearchResultDTO> resultados = index.buscar(q, cursoId, status,
+                posicion != null ? posicion.keyAsFloat() : null,
+                posicion != null ? posicion.id() : null,
+                tamanio + 1);
+
+        final boolean hayMas = resultados.size() > tamanio;
+        final List<TopicoSearchResultDTO> pagina = hayMas ? resultados.subList(0, tamanio) : resultados;
+        final TopicoSearchResultDTO ultimo = hayMas ? pagina.get(pagina.size() - 1) : null;
+
+        return CursorPageDTO.<TopicoSearchResultDTO>builder()
+                .withContent(pagina)
+                .withSize(tamanio)
+                .withNextCursor(ultimo != null
+                        ? KeysetPagination.encode(KeysetPagination.Direction.NEXT, ultimo.score().toString(), ultimo.id())
+                        : null)
+                .build();
+    }
+
+    private Map<Long, List<String>> mensajesActivos(final List<Long> topicoIds) {
+        if (topicoIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return respuestaRepository.findMensajesActivos(topicoIds).stream()
+                .collect(Collectors.groupingBy(RespuestaMensaje::topicoId,
+                        Collectors.mapping(RespuestaMensaje::mensaje, Collectors.toList())));
+    }
+
+    private static TopicoDocumento toDocumento(final Topico topico, final List<String> respuestas) {
+        return TopicoDocumento.builder()
+                .withId(topico.getId())
+                .withTitulo(topico.getTitulo())
+                .withMensaje(topico.getMensaje())
+                .withStatus(topico.getStatus())
+                .withCursoId(topico.getCurso().getId())
+                .withCursoNombre(topico.getCurso().getNombre())
+                .withFechaCreacion(topico.getFechaCreacion())
+                .withRespuestas(respuestas != null ? respuestas : List.of())
+                .build();
+    }
+}
@@ -3,53 +3,94 @@ package com.foro_hub.service;
 import com.foro_hub.domain.Curso;
 import com.foro_hub.domain.Topico;
 import com.foro_hub.domain.Usuario;
+import com.foro_hub.dto.pagination.CursorPageDTO;
 import com.foro_hub.dto.topico.TopicoCreateDTO;
+import com.foro_hub.dto.topico.TopicoFiltroDTO;
 import com.foro_hub.dto.topico.TopicoResponseDTO;
 import com.foro_hub.dto.topico.TopicoUpdateDTO;
 import com.foro_hub.exception.DuplicateTopicoException;
+import com.foro_hub.exception.InvalidFilterException;
+import com.foro_hub.exception.PreconditionFailedException;
 import com.foro_hub.exception.ResourceNotFoundException;
 import com.foro_hub.mapper.TopicoMapper;
 import com.foro_hub.repository.CursoRepository;
 import com.foro_hub.repository.TopicoRepository;
+import com.foro_hub.repository.TopicoSpecifications;
 import com.foro_hub.repository.UsuarioRepository;
+import com.foro_hub.repository.projection.TopicoVersion;
+import com.foro_hub.security.AuthenticatedUser;
 import com.foro_hub.util.AuthenticationUtils;
+import com.foro_hub.util.ContenidoHashUtils;
+import com.foro_hub.util.KeysetPagination;
+import com.foro_hub.util.VersionRecurso;
+import com.foro_hub.util.Versionado;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
 public class TopicoService {
 
+    public static final int LONGITUD_RESUMEN_MENSAJE = 200;
+
     private final TopicoRepository topicoRepository;
     private final CursoRepository cursoRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final TopicoSearchService topicoSearchService;
+    private final ReintentoOptimista reintentoOptimista;
 
     public TopicoResponseDTO crearTopico(final TopicoCreateDTO createDTO) {
-        log.info("Creando Topico con titulo: {}", createDTO.titulo());
+        log.debug("Creando Topico con titulo: {}", createDTO.titulo());
 
-        validarTopicoDuplicado(createDTO.titulo(), createDTO.mensaje());
+        final String contenidoHash = ContenidoHashUtils.calcular(createDTO.titulo(), createDTO.mensaje());
+        validarTopicoDuplicado(contenidoHash);
 
-        final Usuario autor = AuthenticationUtils.getAuthenticatedUser();
-        log.info("Autor del topico obtenido del contexto de seguridad: {}", autor.getEmail());
+        final AuthenticatedUser usuarioAutenticado = AuthenticationUtils.getAuthenticatedUser();
+        log.debug("Autor del topico obtenido del contexto de seguridad: {}", usuarioAutenticado.email());
+
+        // Referencia perezosa: solo se necesita el id del autor para la FK, no cargar la entidad. El nombre de la
+        // respuesta sale del principal y el curso ya está cargado, así que la referencia nunca se inicializa
+        final Usuario autor = usuarioRepository.getReferenceById(usuarioAutenticado.id());
 
         final Curso curso = cursoRepository.findByIdAndActivoTrue(createDTO.idCurso())
                 .orElseThrow(() -> new ResourceNotFoundException("No se encontró el curso con ID: " + createDTO.idCurso()));
 
-        final Topico topicoGuardado = topicoRepository.save(TopicoMapper.toEntity(createDTO, autor, curso));
+        // Con ids en bloque el persist no ejecuta el INSERT: sin el flush la violación aparecería recién al confirmar,
+        // fuera de este try. Solo el índice único de contenido_hash es un duplicado; otra violación se propaga
+        final Topico topicoGuardado;
+        try {
+            topicoGuardado = topicoRepository.saveAndFlush(TopicoMapper.toEntity(createDTO, autor, curso));
+        } catch (DataIntegrityViolationException e) {
+            if (!ContenidoHashUtils.esContenidoDuplicado(e)) {
+                throw e;
+            }
+            // Otro request creó el mismo contenido entre la validación y el insert: lo resuelve el índice único
+            log.warn("Topico duplicado detectado por restricción única de contenido_hash");
+            throw new DuplicateTopicoException("Ya existe un tópico con el mismo título y mensaje.");
+        }
 
+        topicoSearchService.programarReindexacion(topicoGuardado.getId());
         log.info("Topico creado exitosamente con ID: {}", topicoGuardado.getId());
 
-        return TopicoMapper.toResponseDTO(topicoGuardado);
+        return TopicoMapper.toResponseDTO(topicoGuardado, usuarioAutenticado.nombre());
     }
 
     @Transactional(readOnly = true)
     public TopicoResponseDTO obtenerTopicoPorId(final Long id) {
-        log.info("Obteniendo Topico con ID: {}", id);
+        log.debug("Obteniendo Topico con ID: {}", id);
 
         final Topico topico = topicoRepository.findByIdAndActivoTrue(id)
                 .orElseThrow(() -> new ResourceNotFoundException("No se encontró el tópico con ID: " + id));
@@ -57,52 +98,138 @@ public class TopicoService {
         return TopicoMapper.toResponseDTO(topico);
     }
 
+    // Versión y cuerpo salen de la misma transacción readOnly (y de la misma conexión), así el ETag corresponde
+    // siempre al tópico devuelto. Si noModificado acepta la versión el tópico no se lee y el cuerpo queda en null
+    @Transactional(readOnly = true)
+    public Versionado<TopicoResponseDTO> obtenerTopicoPorId(final Long id, final Predicate<VersionRecurso> noModificado) {
+        final VersionRecurso version = obtenerVersion(id);
+        if (noModificado.test(version)) {
+            return new Versionado<>(null, version);
+        }
+
+        return new Versionado<>(obtenerTopicoPorId(id), version);
+    }
+
+    private VersionRecurso obtenerVersion(final Long id) {
+        final TopicoVersion version = topicoRepository.findVersion(id)
+                .orElseThrow(() -> new ResourceNotFoundException("No se encontró el tópico con ID: " + id));
+
+        final LocalDateTime ultimaModificacion = version.fechaModificacion().isAfter(version.cursoFechaModificacion())
+                ? version.fechaModificacion()
+                : version.cursoFechaModificacion();
+        return VersionRecurso.of(ultimaModificacion, version.version(), version.cursoVersion());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TopicoResponseDTO> listarTopicos(final TopicoFiltroDTO filtro, final Pageable pageable, final boolean resumen) {
+        if (log.isDebugEnabled()) {
+            log.debug("Listando Topicos con paginación (filtro: {}, resumen: {})", filtro, resumen);
+        }
+
+        if (filtro.fechaDesde() != null && filtro.fechaHasta() != null && !filtro.fechaDesde().isBefore(filtro.fechaHasta())) {
+            throw new InvalidFilterException("fechaDesde debe ser anterior a fechaHasta");
+        }
+
+        return topicoRepository.findListado(
+                TopicoSpecifications.filtrar(filtro),
+                resumen ? LONGITUD_RESUMEN_MENSAJE : null,
+                pageable);
+    }
 
     @Transactional(readOnly = true)
-    public Page<TopicoResponseDTO> listarTopicos(final Pageable pageable) {
-        log.info("Listando todos los Topicos con paginación");
+    public CursorPageDTO<TopicoResponseDTO> listarTopicosPorCursor(final String cursor, final Integer size) {
+        log.debug("Listando Topicos con paginación por cursor");
+
+        final KeysetPagination.Cursor posicion = KeysetPagination.decode(cursor);
+        final int tamanio = KeysetPagination.normalizarSize(size);
+        final Pageable limite = KeysetPagination.limite(tamanio);
+
+        final List<TopicoResponseDTO> topicos;
+        if (posicion == null) {
+            topicos = topicoRepository.findActivosDesdeInicio(limite);
+        } else if (posicion.direction() == KeysetPagination.Direction.PREVIOUS) {
+            topicos = topicoRepository.findActivosAntesDe(posicion.keyAsDateTime(), posicion.id(), limite);
+        } else {
+            topicos = topicoRepository.findActivosDespuesDe(posicion.keyAsDateTime(), posicion.id(), limite);
+        }
 
-        return topicoRepository.findByActivoTrue(pageable)
-                .map(TopicoMapper::toResponseDTO);
+        return KeysetPagination.construirPagina(
+                topicos,
+                posicion,
+                tamanio,
+                topico -> topico.fechaCreacion().toString(),
+                TopicoResponseDTO::id,
+                Function.identity());
     }
 
+    // Un PUT reemplaza el contenido completo con lo que el cliente vio: reaplicarlo sobre la fila releída pisaría en
+    // silencio la escritura con la que chocó. Con o sin If-Match, un conflicto de versión no se reintenta y llega
+    // como 409 (o 412 si If-Match ya no coincide al leer)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Versionado<TopicoResponseDTO> actualizarTopico(final Long id, final TopicoUpdateDTO dto, final Long versionEsperada) {
+        log.debug("Actualizando Topico con ID: {}", id);
 
-    public TopicoResponseDTO actualizarTopico(final Long id, final TopicoUpdateDTO dto) {
-        log.info("Actualizando Topico con ID: {}", id);
+        return reintentoOptimista.ejecutar(false, () -> aplicarActualizacion(id, dto, versionEsperada));
+    }
 
+    private Versionado<TopicoResponseDTO> aplicarActualizacion(final Long id, final TopicoUpdateDTO dto, final Long versionEsperada) {
         final Topico topico = topicoRepository.findByIdAndActivoTrue(id)
                 .orElseThrow(() -> new ResourceNotFoundException("No se encontró el tópico con ID: " + id));
 
+        // Solo se compara la versión del tópico: un cambio en el curso no afecta lo que se está editando
+        if (versionEsperada != null && !versionEsperada.equals(topico.getVersion())) {
+            log.warn("Version del Topico con ID: {} no coincide con If-Match (esperada: {}, actual: {})",
+                    id, versionEsperada, topico.getVersion());
+            throw new PreconditionFailedException("El tópico fue modificado por otra solicitud. Volvé a consultarlo antes de editarlo.");
+        }
+
         if (!topico.getTitulo().equals(dto.titulo()) || !topico.getMensaje().equals(dto.mensaje())) {
-            validarTopicoDuplicado(dto.titulo(), dto.mensaje());
+            final String contenidoHash = ContenidoHashUtils.calcular(dto.titulo(), dto.mensaje());
+
+            if (!contenidoHash.equals(topico.getContenidoHash())) {
+                validarTopicoDuplicado(contenidoHash);
+            }
         }
 
+        // La entidad está gestionada: el dirty checking arma el UPDATE ... WHERE version = ? sin merge, y el flush lo
+        // adelanta para que el ETag salga de la versión que escribió esta transacción y no de una lectura posterior
+        // al commit, que podría ver la escritura de otra solicitud
         TopicoMapper.updateEntityFromDTO(topico, dto);
-        final Topico topicoActualizado = topicoRepository.save(topico);
+        topicoRepository.flush();
+        topicoSearchService.programarReindexacion(id);
 
         log.info("Topico actualizado exitosamente con ID: {}", id);
 
-        return TopicoMapper.toResponseDTO(topicoActualizado);
+        final Curso curso = topico.getCurso();
+        final LocalDateTime ultimaModificacion = topico.getFechaModificacion().isAfter(curso.getFechaModificacion())
+                ? topico.getFechaModificacion()
+                : curso.getFechaModificacion();
+        return new Versionado<>(
+                TopicoMapper.toResponseDTO(topico),
+                VersionRecurso.of(ultimaModificacion, topico.getVersion(), curso.getVersion()));
     }
 
-
+    // La baja lógica es idempotente: ante un conflicto de versión se vuelve a aplicar
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void eliminarTopico(final Long id) {
-        log.info("Eliminando Topico con ID: {}", id);
+        log.debug("Eliminando Topico con ID: {}", id);
 
-        final Topico topico = topicoRepository.findByIdAndActivoTrue(id)
-                .orElseThrow(() -> new ResourceNotFoundException("No se encontró el tópico con ID: " + id));
+        reintentoOptimista.ejecutarSinResultado(true, () -> {
+            final Topico topico = topicoRepository.findByIdAndActivoTrue(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("No se encontró el tópico con ID: " + id));
 
-        topico.setActivo(false);
-        topicoRepository.save(topico);
+            topico.setActivo(false);
+            topicoSearchService.programarReindexacion(id);
+        });
 
         log.info("Topico eliminado (soft delete) exitosamente con id: {}", id);
     }
 
-    private void validarTopicoDuplicado(final String titulo, final String mensaje) {
-        final boolean existeTopico = topicoRepository.existsByTituloAndMensaje(titulo, mensaje);
+    private void validarTopicoDuplicado(final String contenidoHash) {
+        final boolean existeTopico = topicoRepository.existsByContenidoHash(contenidoHash);
 
         if (existeTopico) {
-            log.warn("Intento de crear un Topico duplicado con titulo y mensaje: {}, {}", titulo, mensaje);
+            log.warn("Intento de crear un Topico duplicado con hash de contenido: {}", contenidoHash);
             throw new DuplicateTopicoException("Ya existe un tópico con el mismo título y mensaje.");
         }
     }
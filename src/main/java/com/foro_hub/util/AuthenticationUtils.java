@@ -1,6 +1,6 @@
 package com.foro_hub.util;
 
-import com.foro_hub.domain.Usuario;
+import com.foro_hub.security.AuthenticatedUser;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -8,7 +8,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 @Slf4j
 public class AuthenticationUtils {
 
-    public static Usuario getAuthenticatedUser() {
+    public static AuthenticatedUser getAuthenticatedUser() {
         final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -18,12 +18,12 @@ public class AuthenticationUtils {
 
         final Object principal = authentication.getPrincipal();
 
-        if (!(principal instanceof Usuario usuario)) {
-            log.error("[ForoHub/Security] - El principal no es una instancia de Usuario: {}", principal.getClass().getName());
+        if (!(principal instanceof AuthenticatedUser usuario)) {
+            log.error("[ForoHub/Security] - El principal no es una instancia de AuthenticatedUser: {}", principal.getClass().getName());
             throw new IllegalStateException("Usuario no autenticado correctamente");
         }
 
-        log.debug("[ForoHub/Security] - Usuario autenticado obtenido: {}", usuario.getEmail());
+        log.debug("[ForoHub/Security] - Usuario autenticado obtenido: {}", usuario.email());
 
         return usuario;
     }
@@ -0,0 +1,48 @@
+package com.foro_hub.util;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public class ContenidoHashUtils {
+
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+    private static final char SEPARADOR = '\u0000';
+    private static final String RESTRICCION_UNICA = "uk_topicos_contenido_hash";
+
+    // SHA-256 en hexadecimal sobre titulo + mensaje normalizados (sin espacios extremos y con espacios internos colapsados)
+    public static String calcular(final String titulo, final String mensaje) {
+        final String contenido = normalizar(titulo) + SEPARADOR + normalizar(mensaje);
+
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(contenido.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible en la JVM", e);
+        }
+    }
+
+    // Solo un choque con uk_topicos_contenido_hash es un tópico duplicado; otras violaciones (FK, NOT NULL) no.
+    // MySQL y H2 nombran la restricción en el mensaje del error del driver, que queda en la cadena de causas
+    public static boolean esContenidoDuplicado(final DataIntegrityViolationException e) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa.getMessage() != null && causa.getMessage().toLowerCase(Locale.ROOT).contains(RESTRICCION_UNICA)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String normalizar(final String texto) {
+        if (texto == null) {
+            return "";
+        }
+        return ESPACIOS.matcher(texto.strip()).replaceAll(" ");
+    }
+}
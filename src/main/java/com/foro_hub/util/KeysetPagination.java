@@ -0,0 +1,133 @@
+package com.foro_hub.util;
+
+import com.foro_hub.dto.pagination.CursorPageDTO;
+import com.foro_hub.exception.InvalidCursorException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public class KeysetPagination {
+
+    public static final int DEFAULT_SIZE = 10;
+    public static final int MAX_SIZE = 100;
+
+    private static final char SEPARATOR = '|';
+
+    public enum Direction {
+        NEXT,
+        PREVIOUS
+    }
+
+    // Posición decodificada: dirección de navegación + clave de ordenamiento + id como desempate
+    public record Cursor(Direction direction, String key, Long id) {
+
+        public LocalDateTime keyAsDateTime() {
+            try {
+                return LocalDateTime.parse(key);
+            } catch (DateTimeParseException e) {
+                throw new InvalidCursorException("El cursor de paginación no es válido");
+            }
+        }
+
+        public Float keyAsFloat() {
+            try {
+                return Float.valueOf(key);
+            } catch (NumberFormatException e) {
+                throw new InvalidCursorException("El cursor de paginación no es válido");
+            }
+        }
+    }
+
+    public static Cursor decode(final String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int first = raw.indexOf(SEPARATOR);
+            final int last = raw.lastIndexOf(SEPARATOR);
+
+            // Solo se aceptan los cursores que arma encode: "N|clave|id" o "P|clave|id"
+            if (first != 1 || first == last) {
+                throw new InvalidCursorException("El cursor de paginación no es válido");
+            }
+
+            final Direction direction = switch (raw.charAt(0)) {
+                case 'N' -> Direction.NEXT;
+                case 'P' -> Direction.PREVIOUS;
+                default -> throw new InvalidCursorException("El cursor de paginación no es válido");
+            };
+            return new Cursor(direction, raw.substring(first + 1, last), Long.valueOf(raw.substring(last + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("El cursor de paginación no es válido");
+        }
+    }
+
+    public static String encode(final Direction direction, final String key, final Long id) {
+        final String raw = (direction == Direction.PREVIOUS ? "P" : "N") + SEPARATOR + key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static int normalizarSize(final Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    // Se pide un elemento extra para saber si existe otra página sin ejecutar COUNT(*)
+    public static Pageable limite(final int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    // Los resultados deben venir en el orden de recorrido: ascendente para NEXT y descendente para PREVIOUS
+    public static <E, D> CursorPageDTO<D> construirPagina(final List<E> resultados,
+                                                          final Cursor cursor,
+                                                          final int size,
+                                                          final Function<E, String> clave,
+                                                          final Function<E, Long> id,
+                                                          final Function<E, D> mapper) {
+        final boolean hayMas = resultados.size() > size;
+        final List<E> pagina = new ArrayList<>(hayMas ? resultados.subList(0, size) : resultados);
+        final boolean haciaAtras = cursor != null && cursor.direction() == Direction.PREVIOUS;
+
+        if (haciaAtras) {
+            Collections.reverse(pagina);
+        }
+
+        String nextCursor = null;
+        String previousCursor = null;
+
+        if (!pagina.isEmpty()) {
+            final E primero = pagina.get(0);
+            final E ultimo = pagina.get(pagina.size() - 1);
+
+            final boolean haySiguiente = haciaAtras || hayMas;
+            final boolean hayAnterior = haciaAtras ? hayMas : cursor != null;
+
+            if (haySiguiente) {
+                nextCursor = encode(Direction.NEXT, clave.apply(ultimo), id.apply(ultimo));
+            }
+            if (hayAnterior) {
+                previousCursor = encode(Direction.PREVIOUS, clave.apply(primero), id.apply(primero));
+            }
+        }
+
+        return CursorPageDTO.<D>builder()
+                .withContent(pagina.stream().map(mapper).toList())
+                .withSize(size)
+                .withNextCursor(nextCursor)
+                .withPreviousCursor(previousCursor)
+                .build();
+    }
+}
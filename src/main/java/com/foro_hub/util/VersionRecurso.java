@@ -0,0 +1,42 @@
+package com.foro_hub.util;
+
+import com.foro_hub.exception.PreconditionFailedException;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// Validadores HTTP de un recurso: ETag fuerte con las versiones de las filas que arman la respuesta
+// y Last-Modified con la modificación más reciente (epoch millis, como lo espera WebRequest.checkNotModified)
+public record VersionRecurso(String etag, long ultimaModificacion) {
+
+    public static VersionRecurso of(final LocalDateTime fechaModificacion, final Long... versiones) {
+        final String etag = Arrays.stream(versiones)
+                .map(String::valueOf)
+                .collect(Collectors.joining(".", "\"", "\""));
+
+        return new VersionRecurso(etag, fechaModificacion.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    // Versión de la fila principal (primer componente) del ETag recibido en If-Match, o null si no hay precondición.
+    // If-Match usa comparación fuerte: un ETag débil o que no generamos nosotros nunca coincide
+    public static Long versionEsperada(final String ifMatch) {
+        if (!StringUtils.hasText(ifMatch) || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+
+        final String etag = ifMatch.trim();
+        if (etag.length() < 3 || !etag.startsWith("\"") || !etag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match debe ser un único ETag fuerte devuelto por la API");
+        }
+
+        final String[] versiones = etag.substring(1, etag.length() - 1).split("\\.");
+        try {
+            return Long.valueOf(versiones[0]);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match debe ser un único ETag fuerte devuelto por la API");
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.foro_hub.util;
+
+// Resultado de una escritura junto con los validadores HTTP de la fila tal como quedó dentro de la misma transacción
+public record Versionado<T>(T cuerpo, VersionRecurso version) {
+}
@@ -0,0 +1,64 @@
+package db.migration;
+
+import com.foro_hub.util.ContenidoHashUtils;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+// Calcula contenido_hash para los tópicos existentes con la misma normalización que usa la aplicación.
+// Recorre la tabla en lotes por id para no cargarla completa en memoria. Si el contenido ya estaba repetido,
+// solo el tópico más antiguo conserva el hash y el resto queda en NULL para que el índice único de V11 pueda crearse:
+// esa deduplicación la resuelve la base con un GROUP BY, sin guardar los hashes en memoria.
+public class V10__backfill_contenido_hash_topicos extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(final Context context) throws Exception {
+        final Connection connection = context.getConnection();
+
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, titulo, mensaje FROM topicos WHERE id > ? ORDER BY id LIMIT " + BATCH_SIZE);
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE topicos SET contenido_hash = ? WHERE id = ?")) {
+
+            long ultimoId = 0;
+            boolean hayMas = true;
+
+            while (hayMas) {
+                select.setLong(1, ultimoId);
+                int leidos = 0;
+
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        leidos++;
+                        ultimoId = rs.getLong("id");
+                        update.setString(1, ContenidoHashUtils.calcular(rs.getString("titulo"), rs.getString("mensaje")));
+                        update.setLong(2, ultimoId);
+                        update.addBatch();
+                    }
+                }
+
+                update.executeBatch();
+                hayMas = leidos == BATCH_SIZE;
+            }
+        }
+
+        // La tabla derivada se materializa antes del UPDATE (MySQL no permite leer en una subconsulta la misma
+        // tabla que se está actualizando)
+        try (Statement duplicados = connection.createStatement()) {
+            duplicados.executeUpdate("""
+                    UPDATE topicos SET contenido_hash = NULL
+                    WHERE contenido_hash IS NOT NULL
+                      AND id NOT IN (
+                        SELECT id FROM (
+                            SELECT MIN(id) AS id FROM topicos WHERE contenido_hash IS NOT NULL GROUP BY contenido_hash
+                        ) AS primeros)
+                    """);
+        }
+    }
+}
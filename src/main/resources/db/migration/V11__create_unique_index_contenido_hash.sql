@@ -0,0 +1,3 @@
+-- La unicidad del contenido queda garantizada por la base de datos, incluso con creaciones concurrentes.
+-- Los tópicos históricos que ya estaban duplicados conservan contenido_hash en NULL (ver V10).
+CREATE UNIQUE INDEX uk_topicos_contenido_hash ON topicos (contenido_hash);
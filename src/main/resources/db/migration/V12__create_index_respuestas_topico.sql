@@ -0,0 +1,3 @@
+-- Listado por cursor de las respuestas de un tópico y resumen agregado (cantidad / solución) por página de tópicos.
+-- También cubre la FK fk_respuesta_topico, por lo que MySQL no necesita el índice implícito sobre topico_id
+CREATE INDEX idx_respuestas_topico_fecha_creacion_id ON respuestas (topico_id, fecha_creacion, id);
@@ -0,0 +1,20 @@
+-- Las respuestas pasan a tener eliminación lógica, igual que tópicos y cursos
+ALTER TABLE respuestas ADD COLUMN activo BOOLEAN NOT NULL DEFAULT TRUE;
+
+-- El listado por cursor filtra respuestas activas: se reemplaza el índice de V12 (el nuevo también cubre la FK)
+CREATE INDEX idx_respuestas_topico_activo_fecha_creacion_id ON respuestas (topico_id, activo, fecha_creacion, id);
+DROP INDEX idx_respuestas_topico_fecha_creacion_id ON respuestas;
+
+-- Contadores desnormalizados: se mantienen con UPDATE atómicos al crear, eliminar o marcar respuestas como solución
+-- y ReconciliacionContadoresService corrige cualquier desvío
+ALTER TABLE topicos ADD COLUMN respuestas_count INT NOT NULL DEFAULT 0;
+ALTER TABLE topicos ADD COLUMN soluciones_count INT NOT NULL DEFAULT 0;
+ALTER TABLE topicos ADD COLUMN ultima_respuesta_fecha DATETIME NULL;
+
+UPDATE topicos t SET
+    respuestas_count = (SELECT COUNT(*) FROM respuestas r WHERE r.topico_id = t.id),
+    soluciones_count = (SELECT COUNT(*) FROM respuestas r WHERE r.topico_id = t.id AND r.solucion = TRUE),
+    ultima_respuesta_fecha = (SELECT MAX(r.fecha_creacion) FROM respuestas r WHERE r.topico_id = t.id);
+
+-- Orden "más activos" de GET /topicos (sort=respuestasCount,desc)
+CREATE INDEX idx_topicos_activo_respuestas_count_id ON topicos (activo, respuestas_count, id);
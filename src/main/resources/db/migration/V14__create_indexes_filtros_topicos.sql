@@ -0,0 +1,6 @@
+-- Filtros de GET /topicos (cursoId, autorId, status): activo primero (todos los listados lo filtran), después la
+-- columna filtrada por igualdad y al final el orden por defecto, que también resuelve el rango de fechas.
+-- El filtro solo por fechas usa idx_topicos_activo_fecha_creacion_id (V8)
+CREATE INDEX idx_topicos_activo_curso_fecha_creacion_id ON topicos (activo, curso_id, fecha_creacion, id);
+CREATE INDEX idx_topicos_activo_autor_fecha_creacion_id ON topicos (activo, autor_id, fecha_creacion, id);
+CREATE INDEX idx_topicos_activo_status_fecha_creacion_id ON topicos (activo, status, fecha_creacion, id);
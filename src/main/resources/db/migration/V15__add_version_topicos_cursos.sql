@@ -0,0 +1,12 @@
+-- Validadores HTTP (ETag / Last-Modified) de GET /topicos/{id} y GET /cursos/{id}.
+-- version la incrementa JPA (@Version) en cada UPDATE de la entidad y también los UPDATE de contadores de topicos
+ALTER TABLE topicos ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE topicos ADD COLUMN fecha_modificacion DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+UPDATE topicos SET fecha_modificacion = CASE
+    WHEN ultima_respuesta_fecha > fecha_creacion THEN ultima_respuesta_fecha
+    ELSE fecha_creacion
+END;
+
+ALTER TABLE cursos ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE cursos ADD COLUMN fecha_modificacion DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP;
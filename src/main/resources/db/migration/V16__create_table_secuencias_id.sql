@@ -0,0 +1,14 @@
+-- Ids en bloques (IdEnBloqueGenerator): cada fila guarda el primer id del próximo bloque de su entidad.
+-- Las columnas siguen siendo AUTO_INCREMENT pero no hay que usarlo: todo INSERT, también los hechos fuera de la
+-- aplicación, debe tomar el id de secuencias_id y avanzar la fila en la misma transacción (ver V18)
+CREATE TABLE secuencias_id (
+    entidad VARCHAR(50) NOT NULL,
+    siguiente BIGINT NOT NULL,
+    PRIMARY KEY (entidad)
+);
+
+INSERT INTO secuencias_id (entidad, siguiente) SELECT 'cursos', COALESCE(MAX(id), 0) + 1 FROM cursos;
+INSERT INTO secuencias_id (entidad, siguiente) SELECT 'usuarios', COALESCE(MAX(id), 0) + 1 FROM usuarios;
+INSERT INTO secuencias_id (entidad, siguiente) SELECT 'perfiles', COALESCE(MAX(id), 0) + 1 FROM perfiles;
+INSERT INTO secuencias_id (entidad, siguiente) SELECT 'topicos', COALESCE(MAX(id), 0) + 1 FROM topicos;
+INSERT INTO secuencias_id (entidad, siguiente) SELECT 'respuestas', COALESCE(MAX(id), 0) + 1 FROM respuestas;
@@ -0,0 +1,9 @@
+-- Latido para medir el atraso de la réplica de lectura (ReplicaDataSource): la aplicación actualiza la fila en el
+-- primario y la lee en la réplica; la diferencia con la hora actual es el lag de replicación
+CREATE TABLE replicacion_latido (
+    id INT NOT NULL,
+    fecha DATETIME(3) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO replicacion_latido (id, fecha) VALUES (1, CURRENT_TIMESTAMP(3));
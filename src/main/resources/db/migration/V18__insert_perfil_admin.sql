@@ -0,0 +1,4 @@
+-- Perfil para los endpoints de administración (/actuator/** salvo health). Se asigna a mano en usuario_perfil.
+-- El id se toma de secuencias_id (ver V16) para no pisar un bloque ya reservado por la aplicación
+INSERT INTO perfiles (id, nombre) SELECT siguiente, 'ADMIN' FROM secuencias_id WHERE entidad = 'perfiles';
+UPDATE secuencias_id SET siguiente = siguiente + 1 WHERE entidad = 'perfiles';
@@ -0,0 +1,3 @@
+-- version la incrementa JPA (@Version) en cada UPDATE del usuario y también cuando solo cambian sus perfiles:
+-- así UsuarioCacheListener recibe @PostUpdate e invalida el usuario cacheado
+ALTER TABLE usuarios ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
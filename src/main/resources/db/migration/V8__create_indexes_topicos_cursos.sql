@@ -0,0 +1,5 @@
+-- Listado paginado (offset y keyset) de tópicos activos ordenados por fecha de creación
+CREATE INDEX idx_topicos_activo_fecha_creacion_id ON topicos (activo, fecha_creacion, id);
+
+-- Listado paginado (offset y keyset) de cursos activos ordenados por nombre
+CREATE INDEX idx_cursos_activo_nombre_id ON cursos (activo, nombre, id);
@@ -0,0 +1,2 @@
+-- Hash SHA-256 del contenido normalizado (titulo + mensaje) para detectar duplicados con una búsqueda puntual
+ALTER TABLE topicos ADD COLUMN contenido_hash CHAR(64) NULL;
@@ -0,0 +1,44 @@
+package com.foro_hub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Tests para el tamaño del pool del perfil prod")
+class DataSourcePoolConfigTest {
+
+    @Test
+    @DisplayName("Sin tamaño configurado el pool debería tener núcleos * 2 + 1 conexiones")
+    void tamanioPool_sinConfigurar_deberiaUsarNucleos() {
+        assertEquals(9, DataSourcePoolConfig.tamanioPool(0, 4));
+        assertEquals(25, DataSourcePoolConfig.tamanioPool(25, 4));
+    }
+
+    @Test
+    @DisplayName("DB_POOL_MAX_SIZE debería aplicarse al pool, salvo que otro perfil fije maximum-pool-size")
+    void postProcessor_deberiaRespetarMaximumPoolSizeExplicito() {
+        // Given
+        final MockEnvironment prod = new MockEnvironment().withProperty(DataSourcePoolConfig.TAMANIO_POOL, "12");
+        final MockEnvironment virtualThreads = new MockEnvironment()
+                .withProperty(DataSourcePoolConfig.TAMANIO_POOL, "12")
+                .withProperty(DataSourcePoolConfig.MAXIMUM_POOL_SIZE, "20");
+
+        // When
+        final HikariDataSource poolProd = ajustar(prod);
+        final HikariDataSource poolVirtualThreads = ajustar(virtualThreads);
+
+        // Then
+        assertEquals(12, poolProd.getMaximumPoolSize());
+        // Sin cambios: el valor del otro perfil lo aplica el binding de spring.datasource.hikari
+        assertEquals(10, poolVirtualThreads.getMaximumPoolSize());
+    }
+
+    private static HikariDataSource ajustar(final MockEnvironment environment) {
+        final BeanPostProcessor postProcessor = DataSourcePoolConfig.tamanioPoolPostProcessor(environment);
+        return (HikariDataSource) postProcessor.postProcessBeforeInitialization(new HikariDataSource(), "dataSource");
+    }
+}
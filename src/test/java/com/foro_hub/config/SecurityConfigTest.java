@@ -0,0 +1,86 @@
+package com.foro_hub.config;
+
+import com.foro_hub.domain.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para el encoder de contraseñas de SecurityConfig")
+class SecurityConfigTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private UserDetailsPasswordService userDetailsPasswordService;
+
+    private PasswordEncoder passwordEncoder;
+    private DaoAuthenticationProvider authenticationProvider;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = SecurityConfig.delegatingPasswordEncoder(5);
+        authenticationProvider = new DaoAuthenticationProvider(userDetailsService);
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
+        authenticationProvider.setUserDetailsPasswordService(userDetailsPasswordService);
+    }
+
+    @Test
+    @DisplayName("Login con un hash sin prefijo y de menor costo debería validar y re-hashear con el costo actual")
+    void login_hashDesactualizado_deberiaRehashear() {
+        // Given
+        final Usuario usuario = usuarioConHash(new BCryptPasswordEncoder(4).encode(PASSWORD));
+        when(userDetailsService.loadUserByUsername("juan@test.com")).thenReturn(usuario);
+        when(userDetailsPasswordService.updatePassword(eq(usuario), any())).thenReturn(usuario);
+
+        // When
+        authenticationProvider.authenticate(new UsernamePasswordAuthenticationToken("juan@test.com", PASSWORD));
+
+        // Then
+        verify(userDetailsPasswordService).updatePassword(eq(usuario),
+                argThat(nuevoHash -> nuevoHash.startsWith("{bcrypt}$2a$05$") && passwordEncoder.matches(PASSWORD, nuevoHash)));
+    }
+
+    @Test
+    @DisplayName("Login con un hash al costo actual no debería re-hashear")
+    void login_hashActual_noDeberiaRehashear() {
+        // Given
+        final Usuario usuario = usuarioConHash(passwordEncoder.encode(PASSWORD));
+        when(userDetailsService.loadUserByUsername("juan@test.com")).thenReturn(usuario);
+
+        // When
+        authenticationProvider.authenticate(new UsernamePasswordAuthenticationToken("juan@test.com", PASSWORD));
+
+        // Then
+        verifyNoInteractions(userDetailsPasswordService);
+        assertTrue(usuario.getContrasena().startsWith("{bcrypt}"));
+    }
+
+    private static Usuario usuarioConHash(final String hash) {
+        return Usuario.builder()
+                .withId(1L)
+                .withNombre("Juan Pérez")
+                .withEmail("juan@test.com")
+                .withContrasena(hash)
+                .withActivo(true)
+                .build();
+    }
+}
@@ -3,8 +3,11 @@ package com.foro_hub.controller;
 import com.foro_hub.dto.curso.CursoCreateDTO;
 import com.foro_hub.dto.curso.CursoResponseDTO;
 import com.foro_hub.dto.curso.CursoUpdateDTO;
+import com.foro_hub.exception.PreconditionFailedException;
 import com.foro_hub.security.JwtService;
 import com.foro_hub.service.CursoService;
+import com.foro_hub.util.VersionRecurso;
+import com.foro_hub.util.Versionado;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,17 +19,21 @@ import org.springframework.boot.test.json.JacksonTester;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -133,7 +140,7 @@ class CursoControllerTest {
     @DisplayName("GET /cursos/{id} - Debería retornar 200 y el DTO")
     void obtenerCurso_Retorna200() throws Exception {
         // GIVEN
-        given(cursoService.obtenerCursoPorId(1L)).willReturn(cursoResponse);
+        dadoElCurso(VersionRecurso.of(LocalDateTime.of(2026, 2, 4, 15, 30), 2L), cursoResponse);
 
         // WHEN
         MockHttpServletResponse response = mockMvc.perform(get("/cursos/{id}", 1L))
@@ -141,10 +148,46 @@ class CursoControllerTest {
 
         // THEN
         assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"2\"");
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNotNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache, private");
         assertThat(cursoResponseJson.parse(response.getContentAsString())).usingRecursiveComparison()
                 .isEqualTo(cursoResponse);
     }
 
+    @Test
+    @DisplayName("GET /cursos/{id} con If-None-Match de la versión actual - Debería retornar 304 sin leer el curso")
+    void obtenerCurso_IfNoneMatch_Retorna304() throws Exception {
+        // GIVEN
+        dadoElCurso(VersionRecurso.of(LocalDateTime.of(2026, 2, 4, 15, 30), 2L), cursoResponse);
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(get("/cursos/{id}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.getContentAsString()).isEmpty();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"2\"");
+    }
+
+    @Test
+    @DisplayName("GET /cursos/{id} con un ETag viejo - Debería retornar 200 con el curso actual")
+    void obtenerCurso_IfNoneMatchViejo_Retorna200() throws Exception {
+        // GIVEN
+        dadoElCurso(VersionRecurso.of(LocalDateTime.of(2026, 2, 4, 15, 30), 2L), cursoResponse);
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(get("/cursos/{id}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"2\"");
+    }
+
     @Test
     @DisplayName("GET /cursos - Debería retornar Paginación correctamente")
     void listarCursos_RetornaPage() throws Exception {
@@ -180,7 +223,8 @@ class CursoControllerTest {
                 .withCategoria("Backend & Microservicios")
                 .build();
 
-        given(cursoService.actualizarCurso(eq(1L), any(CursoUpdateDTO.class))).willReturn(updatedResponse);
+        given(cursoService.actualizarCurso(eq(1L), any(CursoUpdateDTO.class), isNull())).willReturn(
+                new Versionado<>(updatedResponse, VersionRecurso.of(LocalDateTime.of(2026, 2, 4, 15, 30), 3L)));
 
         // WHEN
         MockHttpServletResponse response = mockMvc.perform(put("/cursos/{id}", 1L)
@@ -190,10 +234,33 @@ class CursoControllerTest {
 
         // THEN
         assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"3\"");
         assertThat(cursoResponseJson.parse(response.getContentAsString())).usingRecursiveComparison()
                 .isEqualTo(updatedResponse);
     }
 
+    @Test
+    @DisplayName("PUT /cursos/{id} con If-Match de otra versión - Debería retornar 412")
+    void actualizarCurso_IfMatchViejo_Retorna412() throws Exception {
+        // GIVEN
+        CursoUpdateDTO updateDto = CursoUpdateDTO.builder()
+                .withNombre("Spring Boot Avanzado")
+                .withCategoria("Backend")
+                .build();
+        given(cursoService.actualizarCurso(eq(1L), any(CursoUpdateDTO.class), eq(1L)))
+                .willThrow(new PreconditionFailedException("El curso fue modificado por otra solicitud."));
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(put("/cursos/{id}", 1L)
+                        .header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(cursoUpdateJson.write(updateDto).getJson()))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
     @Test
     @DisplayName("DELETE /cursos/{id} - Debería retornar 204 No Content")
     void eliminarCurso_Retorna204() throws Exception {
@@ -227,4 +294,12 @@ class CursoControllerTest {
                         .content("plain text"))
                 .andExpect(status().isUnsupportedMediaType());
     }
+
+    // El servicio evalúa noModificado con la versión actual dentro de su transacción y solo entonces lee el curso
+    private void dadoElCurso(final VersionRecurso version, final CursoResponseDTO cuerpo) {
+        given(cursoService.obtenerCursoPorId(eq(1L), any())).willAnswer(invocation -> {
+            final Predicate<VersionRecurso> noModificado = invocation.getArgument(1);
+            return new Versionado<>(noModificado.test(version) ? null : cuerpo, version);
+        });
+    }
 }
@@ -0,0 +1,174 @@
+package com.foro_hub.controller;
+
+import com.foro_hub.dto.pagination.CursorPageDTO;
+import com.foro_hub.dto.respuesta.RespuestaCreateDTO;
+import com.foro_hub.dto.respuesta.RespuestaResponseDTO;
+import com.foro_hub.dto.respuesta.RespuestaUpdateDTO;
+import com.foro_hub.exception.ResourceNotFoundException;
+import com.foro_hub.security.JwtService;
+import com.foro_hub.service.RespuestaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJsonTesters;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.json.JacksonTester;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doNothing;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(RespuestaController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@AutoConfigureJsonTesters
+class RespuestaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JacksonTester<RespuestaCreateDTO> respuestaCreateJson;
+
+    @Autowired
+    private JacksonTester<RespuestaUpdateDTO> respuestaUpdateJson;
+
+    @Autowired
+    private JacksonTester<RespuestaResponseDTO> respuestaResponseJson;
+
+    @MockitoBean
+    private RespuestaService respuestaService;
+
+    // Mocking JwtService to bypass security filters
+    @MockitoBean
+    private JwtService jwtService;
+
+    private RespuestaResponseDTO respuestaResponse;
+
+    @BeforeEach
+    void setUp() {
+        respuestaResponse = RespuestaResponseDTO.builder()
+                .withId(10L)
+                .withTopicoId(1L)
+                .withMensaje("Respuesta Demo")
+                .withFechaCreacion(LocalDateTime.now())
+                .withSolucion(false)
+                .build();
+    }
+
+    @Test
+    @DisplayName("POST /topicos/{id}/respuestas - Debería retornar 201 Created y Header Location")
+    void crearRespuesta_DeberiaRetornar201() throws Exception {
+        // GIVEN
+        given(respuestaService.crearRespuesta(eq(1L), any())).willReturn(respuestaResponse);
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(post("/topicos/{topicoId}/respuestas", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(respuestaCreateJson.write(new RespuestaCreateDTO("Respuesta Demo")).getJson()))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(response.getHeader("Location")).contains("/topicos/1/respuestas/10");
+        assertThat(respuestaResponseJson.parse(response.getContentAsString())).usingRecursiveComparison()
+                .isEqualTo(respuestaResponse);
+    }
+
+    @Test
+    @DisplayName("POST /topicos/{id}/respuestas - Debería retornar 400 Bad Request si el mensaje está vacío")
+    void crearRespuesta_ConMensajeVacio_Retorna400() throws Exception {
+        // WHEN & THEN
+        mockMvc.perform(post("/topicos/{topicoId}/respuestas", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(respuestaCreateJson.write(new RespuestaCreateDTO("")).getJson()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /topicos/{id}/respuestas - Debería retornar la página por cursor")
+    void listarRespuestas_RetornaCursorPage() throws Exception {
+        // GIVEN
+        CursorPageDTO<RespuestaResponseDTO> page = CursorPageDTO.<RespuestaResponseDTO>builder()
+                .withContent(Collections.singletonList(respuestaResponse))
+                .withSize(10)
+                .withNextCursor("siguiente")
+                .build();
+        given(respuestaService.listarRespuestasPorCursor(1L, null, 10)).willReturn(page);
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(get("/topicos/{topicoId}/respuestas", 1L)
+                        .param("size", "10"))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).contains("Respuesta Demo");
+        assertThat(response.getContentAsString()).contains("\"nextCursor\":\"siguiente\"");
+    }
+
+    @Test
+    @DisplayName("GET /topicos/{id}/respuestas/{id} - Debería retornar 404 si la respuesta no existe")
+    void obtenerRespuesta_Inexistente_Retorna404() throws Exception {
+        // GIVEN
+        given(respuestaService.obtenerRespuestaPorId(1L, 99L))
+                .willThrow(new ResourceNotFoundException("No se encontró la respuesta con ID: 99 en el tópico con ID: 1"));
+
+        // WHEN & THEN
+        mockMvc.perform(get("/topicos/{topicoId}/respuestas/{id}", 1L, 99L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("PUT /topicos/{id}/respuestas/{id} - Debería retornar 200 y la respuesta actualizada")
+    void actualizarRespuesta_Retorna200() throws Exception {
+        // GIVEN
+        RespuestaUpdateDTO updateDto = new RespuestaUpdateDTO("Respuesta Demo - Actualizada", true);
+        RespuestaResponseDTO updatedResponse = RespuestaResponseDTO.builder()
+                .withId(10L)
+                .withTopicoId(1L)
+                .withMensaje("Respuesta Demo - Actualizada")
+                .withFechaCreacion(LocalDateTime.now())
+                .withSolucion(true)
+                .build();
+        given(respuestaService.actualizarRespuesta(eq(1L), eq(10L), any(RespuestaUpdateDTO.class))).willReturn(updatedResponse);
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(put("/topicos/{topicoId}/respuestas/{id}", 1L, 10L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(respuestaUpdateJson.write(updateDto).getJson()))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(respuestaResponseJson.parse(response.getContentAsString())).usingRecursiveComparison()
+                .isEqualTo(updatedResponse);
+    }
+
+    @Test
+    @DisplayName("DELETE /topicos/{id}/respuestas/{id} - Debería retornar 204 No Content")
+    void eliminarRespuesta_Retorna204() throws Exception {
+        // GIVEN
+        doNothing().when(respuestaService).eliminarRespuesta(1L, 10L);
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(delete("/topicos/{topicoId}/respuestas/{id}", 1L, 10L))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NO_CONTENT.value());
+    }
+}
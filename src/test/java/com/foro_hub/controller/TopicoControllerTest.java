@@ -1,11 +1,22 @@
 package com.foro_hub.controller;
 
 import com.foro_hub.domain.enums.StatusTopico;
+import com.foro_hub.dto.pagination.CursorPageDTO;
 import com.foro_hub.dto.topico.TopicoCreateDTO;
+import com.foro_hub.dto.topico.TopicoFiltroDTO;
+import com.foro_hub.dto.topico.TopicoImportItemDTO;
+import com.foro_hub.dto.topico.TopicoImportResultadoDTO;
 import com.foro_hub.dto.topico.TopicoResponseDTO;
+import com.foro_hub.dto.topico.TopicoSearchResultDTO;
 import com.foro_hub.dto.topico.TopicoUpdateDTO;
+import com.foro_hub.exception.InvalidSearchQueryException;
+import com.foro_hub.exception.PreconditionFailedException;
 import com.foro_hub.security.JwtService;
+import com.foro_hub.service.TopicoImportService;
+import com.foro_hub.service.TopicoSearchService;
 import com.foro_hub.service.TopicoService;
+import com.foro_hub.util.VersionRecurso;
+import com.foro_hub.util.Versionado;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,20 +28,28 @@ import org.springframework.boot.test.json.JacksonTester;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.io.InputStream;
 import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -54,6 +73,12 @@ class TopicoControllerTest {
     @MockitoBean
     private TopicoService topicoService;
 
+    @MockitoBean
+    private TopicoSearchService topicoSearchService;
+
+    @MockitoBean
+    private TopicoImportService topicoImportService;
+
     // Mocking JwtService to bypass security filters
     @MockitoBean
     private JwtService jwtService;
@@ -92,6 +117,48 @@ class TopicoControllerTest {
                 .isEqualTo(topicoResponse);
     }
 
+    @Test
+    @DisplayName("POST /topicos/bulk - Debería pasar el cuerpo NDJSON al servicio y retornar el resultado por línea")
+    void importarTopicos_Retorna200() throws Exception {
+        // GIVEN
+        TopicoImportResultadoDTO resultado = TopicoImportResultadoDTO.builder()
+                .withProcesados(2)
+                .withCreados(1)
+                .withDuplicados(1)
+                .withResultados(List.of(
+                        new TopicoImportItemDTO(1, TopicoImportItemDTO.Resultado.CREADO, 10L, null),
+                        new TopicoImportItemDTO(2, TopicoImportItemDTO.Resultado.DUPLICADO, null, "Ya existe un tópico con el mismo título y mensaje.")))
+                .build();
+        given(topicoImportService.importar(any(InputStream.class))).willReturn(resultado);
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(post("/topicos/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("""
+                                {"titulo": "Uno", "mensaje": "Mensaje", "idCurso": 1}
+                                {"titulo": "Uno", "mensaje": "Mensaje", "idCurso": 1}
+                                """))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).contains("\"creados\":1", "\"resultado\":\"DUPLICADO\"");
+    }
+
+    @Test
+    @DisplayName("POST /topicos/bulk - Debería retornar 415 si el cuerpo no es NDJSON")
+    void importarTopicos_ConJson_Retorna415() throws Exception {
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(post("/topicos/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value());
+        verify(topicoImportService, never()).importar(any());
+    }
+
     @Test
     @DisplayName("POST /topicos - Debería retornar 400 Bad Request si falta el título")
     void crearTopico_ConTituloNulo_Retorna400() throws Exception {
@@ -138,7 +205,7 @@ class TopicoControllerTest {
     @DisplayName("GET /topicos/{id} - Debería retornar 200 y el DTO")
     void obtenerTopico_Retorna200() throws Exception {
         // GIVEN
-        given(topicoService.obtenerTopicoPorId(1L)).willReturn(topicoResponse);
+        dadoElTopico(VersionRecurso.of(LocalDateTime.of(2026, 2, 4, 15, 30), 3L, 1L), topicoResponse);
 
         // WHEN
         MockHttpServletResponse response = mockMvc.perform(get("/topicos/{id}", 1L))
@@ -146,17 +213,53 @@ class TopicoControllerTest {
 
         // THEN
         assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"3.1\"");
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNotNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache, private");
 
         assertThat(topicoResponseJson.parse(response.getContentAsString())).usingRecursiveComparison()
                 .isEqualTo(topicoResponse);
     }
 
+    @Test
+    @DisplayName("GET /topicos/{id} con If-None-Match de la versión actual - Debería retornar 304 sin leer el tópico")
+    void obtenerTopico_IfNoneMatch_Retorna304() throws Exception {
+        // GIVEN
+        dadoElTopico(VersionRecurso.of(LocalDateTime.of(2026, 2, 4, 15, 30), 3L, 1L), topicoResponse);
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(get("/topicos/{id}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3.1\""))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.getContentAsString()).isEmpty();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"3.1\"");
+    }
+
+    @Test
+    @DisplayName("GET /topicos/{id} con un ETag viejo - Debería retornar 200 con el tópico actual")
+    void obtenerTopico_IfNoneMatchViejo_Retorna200() throws Exception {
+        // GIVEN
+        dadoElTopico(VersionRecurso.of(LocalDateTime.of(2026, 2, 4, 15, 30), 3L, 1L), topicoResponse);
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(get("/topicos/{id}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"3.1\"");
+    }
+
     @Test
     @DisplayName("GET /topicos - Debería retornar Paginación correctamente")
     void listarTopicos_RetornaPage() throws Exception {
         // GIVEN
         Page<TopicoResponseDTO> page = new PageImpl<>(Collections.singletonList(topicoResponse));
-        given(topicoService.listarTopicos(any(Pageable.class))).willReturn(page);
+        given(topicoService.listarTopicos(any(TopicoFiltroDTO.class), any(Pageable.class), eq(false))).willReturn(page);
 
         // WHEN
         MockHttpServletResponse response = mockMvc.perform(get("/topicos")
@@ -171,6 +274,115 @@ class TopicoControllerTest {
         assertThat(response.getContentAsString()).contains("\"pageable\"");
     }
 
+    @Test
+    @DisplayName("GET /topicos?resumen=true - Debería pedir el listado resumido al servicio")
+    void listarTopicos_Resumen_RetornaPage() throws Exception {
+        // GIVEN
+        Page<TopicoResponseDTO> page = new PageImpl<>(Collections.singletonList(topicoResponse));
+        given(topicoService.listarTopicos(any(TopicoFiltroDTO.class), any(Pageable.class), eq(true))).willReturn(page);
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(get("/topicos")
+                        .param("resumen", "true"))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).contains("Titulo Demo");
+    }
+
+    @Test
+    @DisplayName("GET /topicos con filtros - Debería pasar curso, estado, autor y rango de fechas al servicio")
+    void listarTopicos_ConFiltros_RetornaPage() throws Exception {
+        // GIVEN
+        Page<TopicoResponseDTO> page = new PageImpl<>(Collections.singletonList(topicoResponse));
+        TopicoFiltroDTO filtro = TopicoFiltroDTO.builder()
+                .withCursoId(1L)
+                .withStatus(StatusTopico.ABIERTO)
+                .withAutorId(2L)
+                .withFechaDesde(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .withFechaHasta(LocalDateTime.of(2026, 2, 1, 0, 0))
+                .build();
+        given(topicoService.listarTopicos(eq(filtro), any(Pageable.class), eq(false))).willReturn(page);
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(get("/topicos")
+                        .param("cursoId", "1")
+                        .param("status", "ABIERTO")
+                        .param("autorId", "2")
+                        .param("fechaDesde", "2026-01-01T00:00:00")
+                        .param("fechaHasta", "2026-02-01T00:00:00"))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).contains("Titulo Demo");
+    }
+
+    @Test
+    @DisplayName("GET /topicos/cursor - Debería retornar la página por cursor sin metadatos de conteo")
+    void listarTopicosPorCursor_RetornaCursorPage() throws Exception {
+        // GIVEN
+        CursorPageDTO<TopicoResponseDTO> page = CursorPageDTO.<TopicoResponseDTO>builder()
+                .withContent(Collections.singletonList(topicoResponse))
+                .withSize(10)
+                .withNextCursor("siguiente")
+                .build();
+        given(topicoService.listarTopicosPorCursor(null, 10)).willReturn(page);
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(get("/topicos/cursor")
+                        .param("size", "10"))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).contains("Titulo Demo");
+        assertThat(response.getContentAsString()).contains("\"nextCursor\":\"siguiente\"");
+        assertThat(response.getContentAsString()).doesNotContain("totalElements");
+    }
+
+    @Test
+    @DisplayName("GET /topicos/search - Debería retornar los resultados filtrados por curso y estado")
+    void buscarTopicos_Retorna200() throws Exception {
+        // GIVEN
+        TopicoSearchResultDTO resultado = TopicoSearchResultDTO.builder()
+                .withId(1L)
+                .withTitulo("<mark>Titulo</mark> Demo")
+                .withFragmento("Mensaje Demo")
+                .withScore(1.5f)
+                .withStatus(StatusTopico.ABIERTO)
+                .build();
+        CursorPageDTO<TopicoSearchResultDTO> page = CursorPageDTO.<TopicoSearchResultDTO>builder()
+                .withContent(Collections.singletonList(resultado))
+                .withSize(10)
+                .build();
+        given(topicoSearchService.buscar("titulo", 2L, StatusTopico.ABIERTO, null, null)).willReturn(page);
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(get("/topicos/search")
+                        .param("q", "titulo")
+                        .param("cursoId", "2")
+                        .param("status", "ABIERTO"))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).contains("<mark>Titulo</mark> Demo");
+    }
+
+    @Test
+    @DisplayName("GET /topicos/search - Debería retornar 400 Bad Request si la consulta es inválida")
+    void buscarTopicos_ConsultaInvalida_Retorna400() throws Exception {
+        // GIVEN
+        given(topicoSearchService.buscar(any(), any(), any(), any(), any()))
+                .willThrow(new InvalidSearchQueryException("El parámetro q es obligatorio"));
+
+        // WHEN & THEN
+        mockMvc.perform(get("/topicos/search"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("PUT /topicos/{id} - Debería retornar 200 y el DTO actualizado")
     void actualizarTopico_Retorna200() throws Exception {
@@ -189,7 +401,8 @@ class TopicoControllerTest {
                 .withFechaCreacion(LocalDateTime.now())
                 .build();
 
-        given(topicoService.actualizarTopico(eq(1L), any(TopicoUpdateDTO.class))).willReturn(updatedResponse);
+        given(topicoService.actualizarTopico(eq(1L), any(TopicoUpdateDTO.class), isNull())).willReturn(
+                new Versionado<>(updatedResponse, VersionRecurso.of(LocalDateTime.of(2026, 2, 4, 15, 30), 4L, 1L)));
 
         // WHEN
         MockHttpServletResponse response = mockMvc.perform(put("/topicos/{id}", 1L)
@@ -199,10 +412,88 @@ class TopicoControllerTest {
 
         // THEN
         assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"4.1\"");
         assertThat(topicoResponseJson.parse(response.getContentAsString())).usingRecursiveComparison()
                 .isEqualTo(updatedResponse);
     }
 
+    @Test
+    @DisplayName("PUT /topicos/{id} con If-Match - Debería pasar al servicio la versión del tópico")
+    void actualizarTopico_IfMatch_PasaVersionEsperada() throws Exception {
+        // GIVEN
+        TopicoUpdateDTO updateDto = new TopicoUpdateDTO("Titulo Demo", "Mensaje Demo", null);
+        given(topicoService.actualizarTopico(eq(1L), any(TopicoUpdateDTO.class), eq(3L))).willReturn(
+                new Versionado<>(TopicoResponseDTO.builder().withId(1L).build(),
+                        VersionRecurso.of(LocalDateTime.of(2026, 2, 4, 15, 30), 4L, 1L)));
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(put("/topicos/{id}", 1L)
+                        .header(HttpHeaders.IF_MATCH, "\"3.1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(topicoUpdateJson.write(updateDto).getJson()))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        verify(topicoService).actualizarTopico(eq(1L), any(TopicoUpdateDTO.class), eq(3L));
+    }
+
+    @Test
+    @DisplayName("PUT /topicos/{id} con If-Match de otra versión - Debería retornar 412")
+    void actualizarTopico_IfMatchViejo_Retorna412() throws Exception {
+        // GIVEN
+        TopicoUpdateDTO updateDto = new TopicoUpdateDTO("Titulo Demo", "Mensaje Demo", null);
+        given(topicoService.actualizarTopico(eq(1L), any(TopicoUpdateDTO.class), eq(2L)))
+                .willThrow(new PreconditionFailedException("El tópico fue modificado por otra solicitud."));
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(put("/topicos/{id}", 1L)
+                        .header(HttpHeaders.IF_MATCH, "\"2.1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(topicoUpdateJson.write(updateDto).getJson()))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    @Test
+    @DisplayName("PUT /topicos/{id} con un ETag débil en If-Match - Debería retornar 412 sin llamar al servicio")
+    void actualizarTopico_IfMatchDebil_Retorna412() throws Exception {
+        // GIVEN
+        TopicoUpdateDTO updateDto = new TopicoUpdateDTO("Titulo Demo", "Mensaje Demo", null);
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(put("/topicos/{id}", 1L)
+                        .header(HttpHeaders.IF_MATCH, "W/\"3.1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(topicoUpdateJson.write(updateDto).getJson()))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED.value());
+        verify(topicoService, never()).actualizarTopico(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("PUT /topicos/{id} que choca con otra escritura - Debería retornar 409")
+    void actualizarTopico_ConflictoDeVersion_Retorna409() throws Exception {
+        // GIVEN
+        TopicoUpdateDTO updateDto = new TopicoUpdateDTO("Titulo Demo", "Mensaje Demo", null);
+        given(topicoService.actualizarTopico(eq(1L), any(TopicoUpdateDTO.class), eq(3L)))
+                .willThrow(new ObjectOptimisticLockingFailureException("Topico", 1L));
+
+        // WHEN
+        MockHttpServletResponse response = mockMvc.perform(put("/topicos/{id}", 1L)
+                        .header(HttpHeaders.IF_MATCH, "\"3.1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(topicoUpdateJson.write(updateDto).getJson()))
+                .andReturn().getResponse();
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.CONFLICT.value());
+    }
+
     @Test
     @DisplayName("DELETE /topicos/{id} - Debería retornar 204 No Content")
     void eliminarTopico_Retorna204() throws Exception {
@@ -236,4 +527,12 @@ class TopicoControllerTest {
                         .content("plain text"))
                 .andExpect(status().isUnsupportedMediaType());
     }
+
+    // El servicio evalúa noModificado con la versión actual dentro de su transacción y solo entonces lee el tópico
+    private void dadoElTopico(final VersionRecurso version, final TopicoResponseDTO cuerpo) {
+        given(topicoService.obtenerTopicoPorId(eq(1L), any())).willAnswer(invocation -> {
+            final Predicate<VersionRecurso> noModificado = invocation.getArgument(1);
+            return new Versionado<>(noModificado.test(version) ? null : cuerpo, version);
+        });
+    }
 }
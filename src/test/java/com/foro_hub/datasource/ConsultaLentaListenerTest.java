@@ -0,0 +1,105 @@
+package com.foro_hub.datasource;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests para ConsultaLentaListener")
+class ConsultaLentaListenerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Logger logger = (Logger) LoggerFactory.getLogger("foro_hub.sql.lentas");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private DataSource base;
+
+    @BeforeEach
+    void setUp() {
+        base = new DriverManagerDataSource("jdbc:h2:mem:sql-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        final JdbcTemplate jdbc = new JdbcTemplate(base);
+        jdbc.execute("CREATE TABLE cursos (id INT PRIMARY KEY, nombre VARCHAR(50), activo BOOLEAN)");
+        jdbc.update("INSERT INTO cursos VALUES (1, 'Java', TRUE), (2, 'Spring', TRUE), (3, 'Docker', TRUE), (4, 'Go', FALSE)");
+
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        ContadorSentencias.finalizar();
+    }
+
+    @Test
+    @DisplayName("Un SELECT lento debería loguearse como JSON con binds y el método que lo ejecutó, sin contar filas")
+    void select_lento_deberiaLoguearBindsYOrigen() throws Exception {
+        // Given: umbral 0, todas las sentencias son lentas
+        final JdbcTemplate jdbc = new JdbcTemplate(proxy(0));
+
+        // When
+        jdbc.queryForList("SELECT nombre FROM cursos WHERE activo = ? ORDER BY id", String.class, true);
+
+        // Then
+        assertThat(appender.list).hasSize(1);
+        final JsonNode consulta = objectMapper.readTree(appender.list.get(0).getFormattedMessage());
+        assertThat(consulta.get("sql").asText()).isEqualTo("SELECT nombre FROM cursos WHERE activo = ? ORDER BY id");
+        assertThat(consulta.get("binds").asInt()).isEqualTo(1);
+        assertThat(consulta.has("filas")).isFalse();
+        assertThat(consulta.get("origen").asText()).isEqualTo("ConsultaLentaListenerTest.select_lento_deberiaLoguearBindsYOrigen");
+        assertThat(consulta.get("exito").asBoolean()).isTrue();
+        assertThat(consulta.has("duracionMs")).isTrue();
+        assertThat(consulta.has("lote")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Un batch lento debería informar el tamaño del lote y las filas afectadas")
+    void batch_lento_deberiaLoguearFilasAfectadas() throws Exception {
+        // Given
+        final JdbcTemplate jdbc = new JdbcTemplate(proxy(0));
+
+        // When
+        jdbc.batchUpdate("UPDATE cursos SET activo = ? WHERE id = ?",
+                List.of(new Object[]{false, 1}, new Object[]{false, 2}));
+
+        // Then
+        final JsonNode consulta = objectMapper.readTree(appender.list.get(0).getFormattedMessage());
+        assertThat(consulta.get("lote").asInt()).isEqualTo(2);
+        assertThat(consulta.get("binds").asInt()).isEqualTo(4);
+        assertThat(consulta.get("filas").asLong()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Las sentencias rápidas no deberían loguearse pero sí contarse para el request")
+    void sentenciaRapida_noDeberiaLoguearse() {
+        // Given
+        final JdbcTemplate jdbc = new JdbcTemplate(proxy(60_000));
+        ContadorSentencias.iniciar();
+
+        // When
+        jdbc.queryForList("SELECT nombre FROM cursos", String.class);
+        jdbc.update("UPDATE cursos SET activo = TRUE");
+
+        // Then
+        assertThat(appender.list).isEmpty();
+        assertThat(ContadorSentencias.finalizar()).isEqualTo(2);
+    }
+
+    private DataSource proxy(final long umbralMs) {
+        return ProxyDataSourceBuilder.create(base).listener(new ConsultaLentaListener(umbralMs)).build();
+    }
+}
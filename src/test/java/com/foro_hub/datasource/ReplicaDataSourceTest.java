@@ -0,0 +1,154 @@
+package com.foro_hub.datasource;
+
+import com.foro_hub.config.ReplicaDataSourceConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Dos bases H2 en memoria hacen de primario y réplica; cada una sabe responder quién es.
+// La replicación se simula escribiendo a mano el latido en la réplica
+@DisplayName("Tests para ReplicaDataSource")
+class ReplicaDataSourceTest {
+
+    private static final String ORIGEN = "SELECT nombre FROM origen";
+
+    private final ReplicaDataSourceConfig config = new ReplicaDataSourceConfig();
+    private HikariDataSource primario;
+    private ReplicaDataSource replicaDataSource;
+    private JdbcTemplate replicaDirecta;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate lectura;
+    private TransactionTemplate escritura;
+
+    @BeforeEach
+    void setUp() {
+        final String replicaUrl = crearBase("replica");
+        primario = pool(crearBase("primario"));
+
+        replicaDataSource = config.replicaDataSource(primario, replicaUrl, "sa", "", 2, 3_000, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        final DataSource dataSource = config.dataSource(primario, replicaDataSource);
+        replicaDirecta = new JdbcTemplate(pool(replicaUrl));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        final JdbcTransactionManager transactionManager = new JdbcTransactionManager(dataSource);
+        escritura = new TransactionTemplate(transactionManager);
+        lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        replicaDataSource.close();
+        ((HikariDataSource) replicaDirecta.getDataSource()).close();
+        primario.close();
+    }
+
+    @Test
+    @DisplayName("Las transacciones readOnly deberían leer de la réplica y las demás del primario")
+    void transacciones_readOnlyALaReplica() {
+        // Given
+        replicarLatido(Instant.now());
+        replicaDataSource.verificar();
+
+        // When / Then
+        assertThat(replicaDataSource.isDisponible()).isTrue();
+        assertThat(origen(lectura)).isEqualTo("replica");
+        assertThat(origen(escritura)).isEqualTo("primario");
+        assertThat(jdbcTemplate.queryForObject(ORIGEN, String.class)).isEqualTo("primario");
+    }
+
+    @Test
+    @DisplayName("Antes de la primera verificación las lecturas deberían ir al primario")
+    void sinVerificar_leeDelPrimario() {
+        assertThat(origen(lectura)).isEqualTo("primario");
+    }
+
+    @Test
+    @DisplayName("Una réplica atrasada más que max-lag debería dejar de recibir lecturas hasta ponerse al día")
+    void replicaAtrasada_leeDelPrimario() {
+        // Given
+        replicarLatido(Instant.now());
+        replicaDataSource.verificar();
+        replicarLatido(Instant.now().minusSeconds(10));
+
+        // When
+        replicaDataSource.verificar();
+
+        // Then
+        assertThat(replicaDataSource.isDisponible()).isFalse();
+        assertThat(replicaDataSource.getLag().toSeconds()).isGreaterThanOrEqualTo(10);
+        assertThat(origen(lectura)).isEqualTo("primario");
+
+        // When: llega el latido que el primario escribió en la verificación
+        replicarLatido(primario());
+        replicaDataSource.verificar();
+
+        // Then
+        assertThat(replicaDataSource.isDisponible()).isTrue();
+        assertThat(origen(lectura)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Si la réplica no entrega conexiones la lectura debería resolverse en el primario")
+    void replicaCaida_leeDelPrimario() throws IOException {
+        // Given
+        replicarLatido(Instant.now());
+        replicaDataSource.verificar();
+
+        // When: se cierra el pool de la réplica
+        replicaDataSource.close();
+
+        // Then
+        assertThat(origen(lectura)).isEqualTo("primario");
+        assertThat(replicaDataSource.isDisponible()).isFalse();
+        replicaDataSource.verificar();
+        assertThat(replicaDataSource.isDisponible()).isFalse();
+    }
+
+    private String origen(final TransactionTemplate transaccion) {
+        return transaccion.execute(status -> jdbcTemplate.queryForObject(ORIGEN, String.class));
+    }
+
+    private Instant primario() {
+        return new JdbcTemplate(primario).queryForObject("SELECT fecha FROM replicacion_latido WHERE id = 1", Timestamp.class)
+                .toInstant();
+    }
+
+    private void replicarLatido(final Instant fecha) {
+        replicaDirecta.update("UPDATE replicacion_latido SET fecha = ? WHERE id = 1", Timestamp.from(fecha));
+    }
+
+    private static String crearBase(final String nombre) {
+        final String url = "jdbc:h2:mem:" + nombre + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        try (HikariDataSource dataSource = pool(url)) {
+            final JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.execute("CREATE TABLE origen (nombre VARCHAR(20))");
+            jdbc.update("INSERT INTO origen (nombre) VALUES (?)", nombre);
+            jdbc.execute("CREATE TABLE replicacion_latido (id INT PRIMARY KEY, fecha DATETIME(3) NOT NULL)");
+            jdbc.update("INSERT INTO replicacion_latido (id, fecha) VALUES (1, CURRENT_TIMESTAMP(3))");
+        }
+        return url;
+    }
+
+    private static HikariDataSource pool(final String url) {
+        final HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername("sa");
+        return dataSource;
+    }
+}
@@ -0,0 +1,118 @@
+package com.foro_hub.datasource;
+
+import com.foro_hub.config.ReplicaDataSourceConfig;
+import com.foro_hub.domain.Curso;
+import com.foro_hub.repository.CursoRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Lo mismo que ReplicaDataSourceTest pero a través de JPA y con open-in-view (activo por defecto): el EntityManager
+// vive todo el request y atiende varias transacciones, así que una escritura no puede heredar la conexión que tomó
+// una lectura readOnly anterior. Primario y réplica son dos bases H2 con el esquema de Flyway
+@DataJpaTest(properties = {
+        "spring.datasource.url=" + ReplicaJpaTest.PRIMARIO_URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "api.datasource.replica.url=" + ReplicaJpaTest.REPLICA_URL,
+        "api.datasource.replica.username=sa",
+        "api.datasource.replica.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReplicaDataSourceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Tests para la réplica de lectura con JPA y open-in-view")
+class ReplicaJpaTest {
+
+    static final String PRIMARIO_URL = "jdbc:h2:mem:primario-jpa;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-jpa;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private ReplicaDataSource replicaDataSource;
+
+    @Autowired
+    private HikariDataSource primarioDataSource;
+
+    @BeforeAll
+    static void migrarReplica() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    @Test
+    @DisplayName("Una escritura después de una lectura readOnly en el mismo request debería ir al primario")
+    void openInView_lecturaYEscritura_noReusaLaConexionDeLaReplica() {
+        // Given: la réplica recibió el último latido
+        new JdbcTemplate(replica()).update("UPDATE replicacion_latido SET fecha = ? WHERE id = 1", Timestamp.from(Instant.now()));
+        replicaDataSource.verificar();
+        assertThat(replicaDataSource.isDisponible()).isTrue();
+
+        final TransactionTemplate lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+        final TransactionTemplate escritura = new TransactionTemplate(transactionManager);
+
+        final OpenEntityManagerInViewInterceptor openInView = new OpenEntityManagerInViewInterceptor();
+        openInView.setEntityManagerFactory(entityManagerFactory);
+        final WebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+
+        // When
+        final List<Curso> leidos;
+        openInView.preHandle(request);
+        try {
+            leidos = lectura.execute(status -> cursoRepository.findAll());
+            escritura.executeWithoutResult(status -> cursoRepository.save(Curso.builder()
+                    .withNombre("Spring Boot")
+                    .withCategoria("Backend")
+                    .withActivo(true)
+                    .build()));
+        } finally {
+            openInView.afterCompletion(request, null);
+        }
+
+        // Then
+        assertThat(leidos).isEmpty();
+        assertThat(cursos(primarioDataSource)).containsExactly("Spring Boot");
+        assertThat(cursos(replica())).isEmpty();
+    }
+
+    private static DataSource replica() {
+        return new DriverManagerDataSource(REPLICA_URL, "sa", "");
+    }
+
+    private static List<String> cursos(final DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForList("SELECT nombre FROM cursos", String.class);
+    }
+}
@@ -0,0 +1,44 @@
+package com.foro_hub.datasource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests para SentenciasPorRequestFilter")
+class SentenciasPorRequestFilterTest {
+
+    @Test
+    @DisplayName("Debería publicar las sentencias de cada request por endpoint")
+    void doFilter_deberiaRegistrarSentenciasPorEndpoint() throws Exception {
+        // Given
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final SentenciasPorRequestFilter filter = new SentenciasPorRequestFilter(meterRegistry, 25);
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/topicos/7");
+
+        // When: el handler ejecuta 3 sentencias
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/topicos/{id}");
+            ContadorSentencias.registrar();
+            ContadorSentencias.registrar();
+            ContadorSentencias.registrar();
+        });
+
+        // Then
+        final DistributionSummary sentencias = meterRegistry.get(SentenciasPorRequestFilter.METRIC_NAME)
+                .tag("uri", "/topicos/{id}")
+                .tag("method", "GET")
+                .summary();
+        assertThat(sentencias.count()).isEqualTo(1);
+        assertThat(sentencias.totalAmount()).isEqualTo(3);
+
+        // Fuera del request no queda contador activo
+        ContadorSentencias.registrar();
+        assertThat(ContadorSentencias.finalizar()).isZero();
+    }
+}
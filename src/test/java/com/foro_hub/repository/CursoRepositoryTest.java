@@ -1,6 +1,7 @@
 package com.foro_hub.repository;
 
 import com.foro_hub.domain.Curso;
+import com.foro_hub.dto.curso.CursoResponseDTO;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,7 +24,7 @@ class CursoRepositoryTest {
 
     @Test
     @DisplayName("Debería retornar solo cursos activos paginados")
-    void findByActivoTrue_retornaSoloActivos() {
+    void findActivos_retornaSoloActivos() {
         // GIVEN
         registrarCurso("Java Basics", "Backend", true);
         registrarCurso("Python Data Science", "Data", true);
@@ -32,11 +33,11 @@ class CursoRepositoryTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // WHEN
-        Page<Curso> resultado = cursoRepository.findByActivoTrue(pageable);
+        Page<CursoResponseDTO> resultado = cursoRepository.findActivos(pageable);
 
         // THEN
         assertThat(resultado.getTotalElements()).isEqualTo(2);
-        assertThat(resultado.getContent()).extracting(Curso::getNombre)
+        assertThat(resultado.getContent()).extracting(CursoResponseDTO::nombre)
                 .contains("Java Basics", "Python Data Science")
                 .doesNotContain("Curso Obsoleto");
     }
@@ -0,0 +1,263 @@
+package com.foro_hub.repository;
+
+import com.foro_hub.domain.enums.StatusTopico;
+import com.foro_hub.dto.topico.TopicoFiltroDTO;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Verifica con EXPLAIN (H2) que el SQL que genera Hibernate para cada método de TopicoRepository, CursoRepository y
+// RespuestaRepository se resuelve con un índice (o una búsqueda por id) en lugar de recorrer la tabla completa.
+// Las sentencias se capturan con datasource-proxy al llamar al repositorio y se explican con los mismos parámetros.
+// Con parámetros y tablas vacías H2 elige entre índices equivalentes sin mirar los valores, así que algunos casos
+// solo exigen la condición resuelta por índice (por ejemplo CURSO_ID = ?) y no un índice compuesto puntual
+@DataJpaTest
+class QueryPlanRepositoryTest {
+
+    private static final LocalDateTime FECHA = LocalDateTime.of(2026, 2, 4, 15, 30);
+    private static final PageRequest PAGINA = PageRequest.of(10, 10, Sort.by("fechaCreacion"));
+    private static final PageRequest LIMITE = PageRequest.ofSize(11);
+
+    @Autowired
+    private TopicoRepository topicoRepository;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private RespuestaRepository respuestaRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private SentenciasCapturadas sentencias;
+
+    private Repositorios repositorios;
+
+    @BeforeEach
+    void setUp() {
+        repositorios = new Repositorios(topicoRepository, cursoRepository, respuestaRepository);
+    }
+
+    static Stream<Arguments> consultas() {
+        return Stream.of(
+                Arguments.of("TopicoRepository.findListado",
+                        llamada(r -> r.topicos().findListado(TopicoSpecifications.filtrar(filtro().build()), null, PAGINA)),
+                        "IDX_TOPICOS_ACTIVO_FECHA_CREACION_ID"),
+                Arguments.of("TopicoRepository.findListado (resumen)",
+                        llamada(r -> r.topicos().findListado(TopicoSpecifications.filtrar(filtro().build()), 200, PAGINA)),
+                        "IDX_TOPICOS_ACTIVO_FECHA_CREACION_ID"),
+                Arguments.of("TopicoRepository.findListado (cursoId)",
+                        llamada(r -> r.topicos().findListado(TopicoSpecifications.filtrar(filtro().withCursoId(1L).build()), null, PAGINA)),
+                        "CURSO_ID = ?"),
+                Arguments.of("TopicoRepository.findListado (autorId)",
+                        llamada(r -> r.topicos().findListado(TopicoSpecifications.filtrar(filtro().withAutorId(1L).build()), null, PAGINA)),
+                        "AUTOR_ID = ?"),
+                Arguments.of("TopicoRepository.findListado (status)",
+                        llamada(r -> r.topicos().findListado(TopicoSpecifications.filtrar(filtro().withStatus(StatusTopico.ABIERTO).build()), null, PAGINA)),
+                        "IDX_TOPICOS_ACTIVO_STATUS_FECHA_CREACION_ID"),
+                Arguments.of("TopicoRepository.findListado (fechaDesde, fechaHasta)",
+                        llamada(r -> r.topicos().findListado(TopicoSpecifications.filtrar(filtro()
+                                .withFechaDesde(FECHA.minusMonths(1)).withFechaHasta(FECHA).build()), null, PAGINA)),
+                        "IDX_TOPICOS_ACTIVO_FECHA_CREACION_ID"),
+                Arguments.of("TopicoRepository.findListado (cursoId, status, fechaDesde, fechaHasta)",
+                        llamada(r -> r.topicos().findListado(TopicoSpecifications.filtrar(filtro().withCursoId(1L)
+                                .withStatus(StatusTopico.ABIERTO).withFechaDesde(FECHA.minusMonths(1)).withFechaHasta(FECHA).build()), null, PAGINA)),
+                        "IDX_TOPICOS_ACTIVO_"),
+                Arguments.of("TopicoRepository.findListado (sort=respuestasCount,desc)",
+                        llamada(r -> r.topicos().findListado(TopicoSpecifications.filtrar(filtro().build()), null,
+                                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "respuestasCount")))),
+                        "IDX_TOPICOS_ACTIVO_"),
+                Arguments.of("TopicoRepository.findByIdAndActivoTrue",
+                        llamada(r -> r.topicos().findByIdAndActivoTrue(1L)),
+                        "PRIMARY_KEY"),
+                Arguments.of("TopicoRepository.findVersion",
+                        llamada(r -> r.topicos().findVersion(1L)),
+                        "PRIMARY_KEY"),
+                Arguments.of("TopicoRepository.existsByIdAndActivoTrue",
+                        llamada(r -> r.topicos().existsByIdAndActivoTrue(1L)),
+                        "ID = ?1"),
+                Arguments.of("TopicoRepository.existsByContenidoHash",
+                        llamada(r -> r.topicos().existsByContenidoHash("a".repeat(64))),
+                        "UK_TOPICOS_CONTENIDO_HASH"),
+                Arguments.of("TopicoRepository.findContenidoHashExistentes",
+                        llamada(r -> r.topicos().findContenidoHashExistentes(List.of("a".repeat(64), "b".repeat(64)))),
+                        "UK_TOPICOS_CONTENIDO_HASH"),
+                Arguments.of("TopicoRepository.findActivosDesdeInicio",
+                        llamada(r -> r.topicos().findActivosDesdeInicio(LIMITE)),
+                        "IDX_TOPICOS_ACTIVO_FECHA_CREACION_ID"),
+                Arguments.of("TopicoRepository.findActivosDespuesDe",
+                        llamada(r -> r.topicos().findActivosDespuesDe(FECHA, 10L, LIMITE)),
+                        "IDX_TOPICOS_ACTIVO_FECHA_CREACION_ID"),
+                Arguments.of("TopicoRepository.findActivosAntesDe",
+                        llamada(r -> r.topicos().findActivosAntesDe(FECHA, 10L, LIMITE)),
+                        "IDX_TOPICOS_ACTIVO_FECHA_CREACION_ID"),
+                Arguments.of("TopicoRepository.findActivosParaIndexar",
+                        llamada(r -> r.topicos().findActivosParaIndexar(500L, PageRequest.ofSize(500))),
+                        "PRIMARY_KEY"),
+                Arguments.of("TopicoRepository.findIdsDespuesDe",
+                        llamada(r -> r.topicos().findIdsDespuesDe(500L, PageRequest.ofSize(500))),
+                        "PRIMARY_KEY"),
+                Arguments.of("CursoRepository.findActivos",
+                        llamada(r -> r.cursos().findActivos(PageRequest.of(10, 10, Sort.by("nombre", "id")))),
+                        "IDX_CURSOS_ACTIVO_NOMBRE_ID"),
+                Arguments.of("CursoRepository.findByIdAndActivoTrue",
+                        llamada(r -> r.cursos().findByIdAndActivoTrue(1L)),
+                        "PRIMARY_KEY"),
+                Arguments.of("CursoRepository.findByIdInAndActivoTrue",
+                        llamada(r -> r.cursos().findByIdInAndActivoTrue(List.of(1L, 2L))),
+                        "PRIMARY_KEY"),
+                Arguments.of("CursoRepository.findVersion",
+                        llamada(r -> r.cursos().findVersion(1L)),
+                        "PRIMARY_KEY"),
+                Arguments.of("CursoRepository.findByActivoTrueOrderByNombreAscIdAsc",
+                        llamada(r -> r.cursos().findByActivoTrueOrderByNombreAscIdAsc(LIMITE)),
+                        "IDX_CURSOS_ACTIVO_NOMBRE_ID"),
+                Arguments.of("CursoRepository.findActivosDespuesDe",
+                        llamada(r -> r.cursos().findActivosDespuesDe("Java", 10L, LIMITE)),
+                        "IDX_CURSOS_ACTIVO_NOMBRE_ID"),
+                Arguments.of("CursoRepository.findActivosAntesDe",
+                        llamada(r -> r.cursos().findActivosAntesDe("Java", 10L, LIMITE)),
+                        "IDX_CURSOS_ACTIVO_NOMBRE_ID"),
+                Arguments.of("RespuestaRepository.findDeTopicoActivo",
+                        llamada(r -> r.respuestas().findDeTopicoActivo(1L, 2L)),
+                        "PRIMARY_KEY"),
+                Arguments.of("RespuestaRepository.findByTopicoIdAndActivoTrueOrderByFechaCreacionAscIdAsc",
+                        llamada(r -> r.respuestas().findByTopicoIdAndActivoTrueOrderByFechaCreacionAscIdAsc(1L, LIMITE)),
+                        "TOPICO_ID = ?1"),
+                Arguments.of("RespuestaRepository.findMensajesActivos",
+                        llamada(r -> r.respuestas().findMensajesActivos(List.of(1L, 2L, 3L))),
+                        "TOPICO_ID IN(?1, ?2, ?3)"),
+                Arguments.of("RespuestaRepository.findDeTopicoDespuesDe",
+                        llamada(r -> r.respuestas().findDeTopicoDespuesDe(1L, FECHA, 10L, LIMITE)),
+                        "TOPICO_ID = ?1"),
+                Arguments.of("RespuestaRepository.findDeTopicoAntesDe",
+                        llamada(r -> r.respuestas().findDeTopicoAntesDe(1L, FECHA, 10L, LIMITE)),
+                        "TOPICO_ID = ?1")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("consultas")
+    @DisplayName("Cada consulta del repositorio debería resolverse con un índice y sin table scan")
+    void consultaUsaIndice(String consulta, Consumer<Repositorios> llamada, String indiceEsperado) throws Exception {
+        // GIVEN
+        sentencias.limpiar();
+
+        // WHEN
+        llamada.accept(repositorios);
+        List<String> planes = new ArrayList<>();
+        for (QueryInfo sentencia : sentencias.obtener()) {
+            planes.add(explicar(sentencia));
+        }
+
+        // THEN
+        assertThat(planes).as("Sentencias de %s", consulta).isNotEmpty();
+        // La primera sentencia es la consulta de datos; las siguientes (COUNT de Page) tampoco pueden recorrer la tabla
+        assertThat(planes.get(0)).as("Plan de %s", consulta).contains(indiceEsperado);
+        assertThat(planes).as("Planes de %s", consulta).allSatisfy(plan -> assertThat(plan).doesNotContain("TABLESCAN"));
+    }
+
+    // EXPLAIN de la sentencia tal como la generó Hibernate, con los parámetros que le pasó al driver
+    private String explicar(final QueryInfo sentencia) throws Exception {
+        final DataSource original = ((ProxyDataSource) dataSource).getDataSource();
+        try (Connection conexion = original.getConnection();
+             PreparedStatement explain = conexion.prepareStatement("EXPLAIN " + sentencia.getQuery())) {
+            for (ParameterSetOperation parametro : sentencia.getParametersList().get(0)) {
+                parametro.getMethod().invoke(explain, parametro.getArgs());
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                plan.next();
+                return plan.getString(1).toUpperCase(Locale.ROOT);
+            }
+        }
+    }
+
+    private static Consumer<Repositorios> llamada(final Consumer<Repositorios> llamada) {
+        return llamada;
+    }
+
+    private static TopicoFiltroDTO.TopicoFiltroDTOBuilder filtro() {
+        return TopicoFiltroDTO.builder();
+    }
+
+    record Repositorios(TopicoRepository topicos, CursoRepository cursos, RespuestaRepository respuestas) {
+    }
+
+    static class SentenciasCapturadas implements QueryExecutionListener {
+
+        private final List<QueryInfo> sentencias = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+            queryInfoList.stream()
+                    .filter(info -> info.getQuery().stripLeading().toLowerCase(Locale.ROOT).startsWith("select"))
+                    .forEach(sentencias::add);
+        }
+
+        List<QueryInfo> obtener() {
+            return List.copyOf(sentencias);
+        }
+
+        void limpiar() {
+            sentencias.clear();
+        }
+    }
+
+    @TestConfiguration
+    static class CapturaConfig {
+
+        @Bean
+        SentenciasCapturadas sentenciasCapturadas() {
+            return new SentenciasCapturadas();
+        }
+
+        @Bean
+        static BeanPostProcessor capturarSentencias(final ObjectProvider<SentenciasCapturadas> sentencias) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                    if (bean instanceof DataSource original && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(original).listener(sentencias.getObject()).build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
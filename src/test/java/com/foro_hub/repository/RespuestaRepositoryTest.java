@@ -0,0 +1,121 @@
+package com.foro_hub.repository;
+
+import com.foro_hub.domain.Curso;
+import com.foro_hub.domain.Respuesta;
+import com.foro_hub.domain.Topico;
+import com.foro_hub.domain.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class RespuestaRepositoryTest {
+
+    @Autowired
+    private RespuestaRepository respuestaRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Usuario usuario;
+    private Curso curso;
+
+    @BeforeEach
+    void setUp() {
+        usuario = em.persist(Usuario.builder()
+                .withNombre("Juan")
+                .withEmail("juan@test.com")
+                .withContrasena("123456")
+                .withActivo(true)
+                .build());
+
+        curso = em.persist(Curso.builder()
+                .withNombre("Spring Boot")
+                .withCategoria("Backend")
+                .withActivo(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Debería paginar por cursor (fechaCreacion, id) solo las respuestas del tópico indicado")
+    void findDeTopicoPorCursor() {
+        // GIVEN
+        LocalDateTime fecha = LocalDateTime.of(2026, 2, 4, 15, 30);
+        Topico topico = registrarTopico("Topico 1");
+        Topico otroTopico = registrarTopico("Topico 2");
+        Respuesta primera = registrarRespuesta(topico, "r1", false, fecha);
+        Respuesta segunda = registrarRespuesta(topico, "r2", false, fecha);
+        registrarRespuesta(otroTopico, "r3", false, fecha.plusMinutes(1));
+        Respuesta tercera = registrarRespuesta(topico, "r4", false, fecha.plusMinutes(2));
+
+        // WHEN
+        List<Respuesta> primeraPagina = respuestaRepository.findByTopicoIdAndActivoTrueOrderByFechaCreacionAscIdAsc(topico.getId(), PageRequest.of(0, 2));
+        List<Respuesta> siguientes = respuestaRepository.findDeTopicoDespuesDe(topico.getId(), fecha, segunda.getId(), PageRequest.of(0, 2));
+        List<Respuesta> anteriores = respuestaRepository.findDeTopicoAntesDe(topico.getId(), tercera.getFechaCreacion(), tercera.getId(), PageRequest.of(0, 2));
+
+        // THEN
+        assertThat(primeraPagina).extracting(Respuesta::getId).containsExactly(primera.getId(), segunda.getId());
+        assertThat(siguientes).extracting(Respuesta::getId).containsExactly(tercera.getId());
+        assertThat(anteriores).extracting(Respuesta::getId).containsExactly(segunda.getId(), primera.getId());
+    }
+
+    @Test
+    @DisplayName("No debería encontrar respuestas de un tópico eliminado")
+    void findDeTopicoActivo_TopicoInactivo() {
+        // GIVEN
+        Topico topico = registrarTopico("Topico 1");
+        Respuesta respuesta = registrarRespuesta(topico, "r1", false, LocalDateTime.now());
+        topico.setActivo(false);
+        em.flush();
+
+        // WHEN & THEN
+        assertThat(respuestaRepository.findDeTopicoActivo(respuesta.getId(), topico.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("No debería listar ni encontrar respuestas eliminadas")
+    void respuestasEliminadas_NoSeListan() {
+        // GIVEN
+        LocalDateTime fecha = LocalDateTime.of(2026, 2, 4, 15, 30);
+        Topico topico = registrarTopico("Topico 1");
+        Respuesta activa = registrarRespuesta(topico, "r1", false, fecha);
+        Respuesta eliminada = registrarRespuesta(topico, "r2", false, fecha.plusMinutes(1));
+        eliminada.setActivo(false);
+        em.flush();
+
+        // WHEN
+        List<Respuesta> respuestas = respuestaRepository.findByTopicoIdAndActivoTrueOrderByFechaCreacionAscIdAsc(topico.getId(), PageRequest.of(0, 10));
+
+        // THEN
+        assertThat(respuestas).extracting(Respuesta::getId).containsExactly(activa.getId());
+        assertThat(respuestaRepository.findDeTopicoActivo(eliminada.getId(), topico.getId())).isEmpty();
+    }
+
+    private Topico registrarTopico(String titulo) {
+        return em.persist(Topico.builder()
+                .withTitulo(titulo)
+                .withMensaje("Mensaje de " + titulo)
+                .withAutor(usuario)
+                .withCurso(curso)
+                .build());
+    }
+
+    private Respuesta registrarRespuesta(Topico topico, String mensaje, boolean solucion, LocalDateTime fechaCreacion) {
+        return em.persist(Respuesta.builder()
+                .withMensaje(mensaje)
+                .withTopico(topico)
+                .withAutor(usuario)
+                .withSolucion(solucion)
+                .withFechaCreacion(fechaCreacion)
+                .build());
+    }
+}
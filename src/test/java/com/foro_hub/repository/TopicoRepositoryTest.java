@@ -1,25 +1,44 @@
 package com.foro_hub.repository;
 
 import com.foro_hub.domain.Curso;
+import com.foro_hub.domain.Respuesta;
 import com.foro_hub.domain.Topico;
 import com.foro_hub.domain.Usuario;
 import com.foro_hub.domain.enums.StatusTopico;
+import com.foro_hub.dto.topico.TopicoFiltroDTO;
+import com.foro_hub.dto.topico.TopicoResponseDTO;
+import com.foro_hub.repository.projection.TopicoVersion;
+import com.foro_hub.util.ContenidoHashUtils;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class TopicoRepositoryTest {
 
+    // Una página del listado: la consulta de datos más el COUNT(*) de Page
+    private static final long MAX_SENTENCIAS_POR_PAGINA = 2;
+
     @Autowired
     private TopicoRepository topicoRepository;
 
@@ -50,12 +69,12 @@ class TopicoRepositoryTest {
 
     @Test
     @DisplayName("Debería retornar true si existe un tópico con el mismo título y mensaje")
-    void existsByTituloAndMensaje_Scenario1() {
+    void existsByContenidoHash_Scenario1() {
         // GIVEN
         registrarTopico("Duda Java", "Mensaje duplicado", true);
 
         // WHEN
-        boolean existe = topicoRepository.existsByTituloAndMensaje("Duda Java", "Mensaje duplicado");
+        boolean existe = topicoRepository.existsByContenidoHash(ContenidoHashUtils.calcular("Duda Java", "Mensaje duplicado"));
 
         // THEN
         assertThat(existe).isTrue();
@@ -63,45 +82,465 @@ class TopicoRepositoryTest {
 
     @Test
     @DisplayName("Debería retornar false si NO existe coincidencia exacta")
-    void existsByTituloAndMensaje_Scenario2() {
+    void existsByContenidoHash_Scenario2() {
         // GIVEN
         registrarTopico("Duda Java", "Mensaje original", true);
 
         // WHEN
-        boolean existe = topicoRepository.existsByTituloAndMensaje("Duda Python", "Otro mensaje");
+        boolean existe = topicoRepository.existsByContenidoHash(ContenidoHashUtils.calcular("Duda Python", "Otro mensaje"));
 
         // THEN
         assertThat(existe).isFalse();
     }
 
     @Test
-    @DisplayName("Debería retornar solo tópicos activos")
-    void findByActivoTrue() {
+    @DisplayName("Debería rechazar con la restricción única un tópico con el mismo contenido normalizado")
+    void contenidoHash_Duplicado_ViolaRestriccionUnica() {
+        // GIVEN
+        registrarTopico("Duda Java", "Mensaje duplicado", true);
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> {
+            registrarTopico("  Duda Java ", "Mensaje   duplicado", true);
+            em.flush();
+        }).isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @Test
+    @DisplayName("saveAndFlush debería reportar el duplicado con el nombre de uk_topicos_contenido_hash")
+    void saveAndFlush_Duplicado_SeReconocePorNombreDeRestriccion() {
+        // GIVEN
+        registrarTopico("Duda Java", "Mensaje duplicado", true);
+        em.flush();
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> topicoRepository.saveAndFlush(nuevoTopico("Duda Java", "Mensaje duplicado", LocalDateTime.now())))
+                .isInstanceOfSatisfying(DataIntegrityViolationException.class,
+                        e -> assertThat(ContenidoHashUtils.esContenidoDuplicado(e)).isTrue());
+    }
+
+    @Test
+    @DisplayName("saveAndFlush con una FK inexistente no debería confundirse con un tópico duplicado")
+    void saveAndFlush_ViolacionDeFk_NoEsDuplicado() {
+        // GIVEN
+        final Topico topico = nuevoTopico("Duda Java", "Mensaje", LocalDateTime.now());
+        topico.setCurso(em.getEntityManager().getReference(Curso.class, 999_999L));
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> topicoRepository.saveAndFlush(topico))
+                .isInstanceOfSatisfying(DataIntegrityViolationException.class,
+                        e -> assertThat(ContenidoHashUtils.esContenidoDuplicado(e)).isFalse());
+    }
+
+    @Test
+    @DisplayName("Debería poder dar de baja y editar un tópico histórico duplicado sin completar su hash")
+    void topicoHistoricoDuplicado_ConservaHashNull() {
+        // GIVEN: dos tópicos con el mismo contenido de antes de V10; solo el primero tiene hash
+        registrarTopico("Duda Java", "Mensaje duplicado", true);
+        Topico historico = registrarTopico("Otro titulo", "Otro mensaje", true, LocalDateTime.now());
+        em.flush();
+        em.getEntityManager()
+                .createNativeQuery("UPDATE topicos SET titulo = 'Duda Java', mensaje = 'Mensaje duplicado', contenido_hash = NULL WHERE id = ?1")
+                .setParameter(1, historico.getId())
+                .executeUpdate();
+        em.clear();
+
+        // WHEN
+        Topico cargado = em.find(Topico.class, historico.getId());
+        cargado.setStatus(StatusTopico.CERRADO);
+        cargado.cambiarContenido("Duda Java", "Mensaje duplicado");
+        em.flush();
+        cargado.setActivo(false);
+        em.flush();
+        em.clear();
+
+        // THEN
+        Topico actualizado = em.find(Topico.class, historico.getId());
+        assertThat(actualizado.getActivo()).isFalse();
+        assertThat(actualizado.getContenidoHash()).isNull();
+    }
+
+    @Test
+    @DisplayName("Un tópico histórico duplicado debería recuperar su hash al editar el contenido")
+    void topicoHistoricoDuplicado_ConContenidoNuevo_GuardaHash() {
+        // GIVEN
+        registrarTopico("Duda Java", "Mensaje duplicado", true);
+        Topico historico = registrarTopico("Otro titulo", "Otro mensaje", true, LocalDateTime.now());
+        em.flush();
+        em.getEntityManager()
+                .createNativeQuery("UPDATE topicos SET titulo = 'Duda Java', mensaje = 'Mensaje duplicado', contenido_hash = NULL WHERE id = ?1")
+                .setParameter(1, historico.getId())
+                .executeUpdate();
+        em.clear();
+
+        // WHEN
+        Topico cargado = em.find(Topico.class, historico.getId());
+        cargado.cambiarContenido("Duda Java editada", "Mensaje nuevo");
+        em.flush();
+        em.clear();
+
+        // THEN: vuelve a estar cubierto por uk_topicos_contenido_hash
+        assertThat(em.find(Topico.class, historico.getId()).getContenidoHash())
+                .isEqualTo(ContenidoHashUtils.calcular("Duda Java editada", "Mensaje nuevo"));
+        assertThatThrownBy(() -> {
+            registrarTopico("Duda Java editada", "Mensaje nuevo", true);
+            em.flush();
+        }).isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Debería retornar solo tópicos activos proyectados al DTO, sin entidades administradas")
+    void findListado() {
         // GIVEN
         registrarTopico("Topico Activo 1", "msg1", true);
         registrarTopico("Topico Activo 2", "msg2", true);
         registrarTopico("Topico Eliminado", "msg3", false);
+        em.flush();
+        em.clear();
 
         // WHEN
-        Page<Topico> resultado = topicoRepository.findByActivoTrue(PageRequest.of(0, 10));
+        Page<TopicoResponseDTO> resultado = topicoRepository.findListado(TopicoSpecifications.activos(), null, PageRequest.of(0, 10));
 
         // THEN
         assertThat(resultado.getTotalElements()).isEqualTo(2);
-        assertThat(resultado.getContent()).extracting(Topico::getTitulo)
+        assertThat(resultado.getContent()).extracting(TopicoResponseDTO::titulo)
                 .contains("Topico Activo 1", "Topico Activo 2")
                 .doesNotContain("Topico Eliminado");
+        assertThat(resultado.getContent()).extracting(TopicoResponseDTO::cantidadRespuestas, TopicoResponseDTO::tieneSolucion)
+                .containsOnly(tuple(0, false));
+        assertThat(em.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debería listar una página de 50 tópicos con autor y curso sin consultas por fila")
+    void findListado_ConAutorYCurso_SinNMasUno() {
+        // GIVEN
+        for (int i = 0; i < 50; i++) {
+            Usuario autor = em.persist(Usuario.builder()
+                    .withNombre("Autor " + i)
+                    .withEmail("autor" + i + "@test.com")
+                    .withContrasena("123456")
+                    .build());
+            Curso cursoTopico = em.persist(Curso.builder()
+                    .withNombre("Curso " + i)
+                    .withCategoria("Categoria " + i)
+                    .build());
+            em.persist(Topico.builder()
+                    .withTitulo("Topico " + i)
+                    .withMensaje("msg" + i)
+                    .withAutor(autor)
+                    .withCurso(cursoTopico)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // WHEN
+        Page<TopicoResponseDTO> pagina = topicoRepository.findListado(TopicoSpecifications.activos(), null,
+                PageRequest.of(0, 50, Sort.by("id")));
+        long sentenciasPagina = statistics.getPrepareStatementCount();
+        statistics.clear();
+        List<TopicoResponseDTO> paginaCursor = topicoRepository.findActivosDesdeInicio(PageRequest.of(0, 51));
+        long sentenciasCursor = statistics.getPrepareStatementCount();
+
+        // THEN
+        assertThat(pagina.getContent()).hasSize(50);
+        assertThat(pagina.getContent().get(7))
+                .extracting(TopicoResponseDTO::autorNombre, TopicoResponseDTO::cursoNombre, TopicoResponseDTO::cursoCategoria)
+                .containsExactly("Autor 7", "Curso 7", "Categoria 7");
+        assertThat(paginaCursor).hasSize(50);
+        assertThat(sentenciasPagina).isLessThanOrEqualTo(MAX_SENTENCIAS_POR_PAGINA);
+        assertThat(sentenciasCursor).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debería recortar el mensaje en la consulta en modo resumen y respetar el orden solicitado")
+    void findListado_Resumido() {
+        // GIVEN
+        registrarTopico("Topico Largo", "x".repeat(500), true);
+        registrarTopico("Topico Corto", "corto", true);
+
+        // WHEN
+        Page<TopicoResponseDTO> resultado = topicoRepository.findListado(TopicoSpecifications.activos(), 10,
+                PageRequest.of(0, 10, Sort.by("titulo")));
+
+        // THEN
+        assertThat(resultado.getContent()).extracting(TopicoResponseDTO::titulo, TopicoResponseDTO::mensaje)
+                .containsExactly(tuple("Topico Corto", "corto"), tuple("Topico Largo", "x".repeat(10)));
+    }
+
+    @Test
+    @DisplayName("Debería combinar los filtros de curso, estado, autor y rango de fechas")
+    void findListado_ConFiltros() {
+        // GIVEN
+        LocalDateTime fecha = LocalDateTime.of(2026, 2, 4, 15, 30);
+        Usuario otroAutor = em.persist(Usuario.builder()
+                .withNombre("Ana")
+                .withEmail("ana@test.com")
+                .withContrasena("123456")
+                .build());
+        Curso otroCurso = em.persist(Curso.builder()
+                .withNombre("Java")
+                .withCategoria("Backend")
+                .build());
+        registrarTopico("Buscado", "msg1", true, fecha);
+        registrarTopico("Eliminado", "msg2", false, fecha);
+        registrarTopico("Fuera de rango", "msg3", true, fecha.minusDays(10));
+        em.persist(Topico.builder().withTitulo("Otro autor").withMensaje("msg4").withAutor(otroAutor).withCurso(curso)
+                .withFechaCreacion(fecha).build());
+        em.persist(Topico.builder().withTitulo("Otro curso").withMensaje("msg5").withAutor(usuario).withCurso(otroCurso)
+                .withFechaCreacion(fecha).build());
+        em.persist(Topico.builder().withTitulo("Resuelto").withMensaje("msg6").withAutor(usuario).withCurso(curso)
+                .withFechaCreacion(fecha).withStatus(StatusTopico.RESUELTO).build());
+
+        TopicoFiltroDTO filtro = TopicoFiltroDTO.builder()
+                .withCursoId(curso.getId())
+                .withStatus(StatusTopico.ABIERTO)
+                .withAutorId(usuario.getId())
+                .withFechaDesde(fecha.minusDays(1))
+                .withFechaHasta(fecha.plusDays(1))
+                .build();
+
+        // WHEN
+        Page<TopicoResponseDTO> filtrado = topicoRepository.findListado(TopicoSpecifications.filtrar(filtro), null,
+                PageRequest.of(0, 10));
+        Page<TopicoResponseDTO> porCurso = topicoRepository.findListado(
+                TopicoSpecifications.filtrar(TopicoFiltroDTO.builder().withCursoId(curso.getId()).build()), null,
+                PageRequest.of(0, 10, Sort.by("titulo")));
+
+        // THEN
+        assertThat(filtrado.getContent()).extracting(TopicoResponseDTO::titulo).containsExactly("Buscado");
+        assertThat(filtrado.getTotalElements()).isEqualTo(1);
+        assertThat(porCurso.getContent()).extracting(TopicoResponseDTO::titulo)
+                .containsExactly("Buscado", "Fuera de rango", "Otro autor", "Resuelto");
+    }
+
+    @Test
+    @DisplayName("Debería paginar por cursor (fechaCreacion, id) en ambos sentidos omitiendo inactivos")
+    void findActivosPorCursor() {
+        // GIVEN
+        LocalDateTime fecha = LocalDateTime.of(2026, 2, 4, 15, 30);
+        Topico primero = registrarTopico("Topico 1", "msg1", true, fecha);
+        Topico segundo = registrarTopico("Topico 2", "msg2", true, fecha);
+        registrarTopico("Topico Eliminado", "msg3", false, fecha.plusMinutes(1));
+        Topico tercero = registrarTopico("Topico 3", "msg4", true, fecha.plusMinutes(2));
+
+        // WHEN
+        List<TopicoResponseDTO> primeraPagina = topicoRepository.findActivosDesdeInicio(PageRequest.of(0, 2));
+        List<TopicoResponseDTO> siguientes = topicoRepository.findActivosDespuesDe(fecha, segundo.getId(), PageRequest.of(0, 2));
+        List<TopicoResponseDTO> anteriores = topicoRepository.findActivosAntesDe(tercero.getFechaCreacion(), tercero.getId(), PageRequest.of(0, 2));
+
+        // THEN
+        assertThat(primeraPagina).extracting(TopicoResponseDTO::id).containsExactly(primero.getId(), segundo.getId());
+        assertThat(siguientes).extracting(TopicoResponseDTO::id).containsExactly(tercero.getId());
+        assertThat(anteriores).extracting(TopicoResponseDTO::id).containsExactly(segundo.getId(), primero.getId());
+    }
+
+    @Test
+    @DisplayName("Debería incrementar el contador de respuestas y conservar la fecha de la última respuesta más reciente")
+    void incrementarRespuestas() {
+        // GIVEN
+        LocalDateTime fecha = LocalDateTime.of(2026, 2, 4, 15, 30);
+        Topico topico = registrarTopico("Topico 1", "msg1", true, fecha);
+
+        // WHEN
+        topicoRepository.incrementarRespuestas(topico.getId(), fecha.plusHours(2));
+        topicoRepository.incrementarRespuestas(topico.getId(), fecha.plusHours(1));
+        em.clear();
+
+        // THEN
+        Topico actualizado = em.find(Topico.class, topico.getId());
+        assertThat(actualizado.getRespuestasCount()).isEqualTo(2);
+        assertThat(actualizado.getUltimaRespuestaFecha()).isEqualTo(fecha.plusHours(2));
+    }
+
+    @Test
+    @DisplayName("Debería marcar el tópico como RESUELTO después de ajustar las soluciones, y una sola vez")
+    void marcarResuelto_DespuesDeAjustarSoluciones() {
+        // GIVEN
+        Topico topico = registrarTopico("Topico 1", "msg1", true, LocalDateTime.now());
+        em.flush();
+
+        // WHEN
+        topicoRepository.ajustarSoluciones(topico.getId(), 1);
+        int resueltos = topicoRepository.marcarResuelto(topico.getId());
+        int yaResueltos = topicoRepository.marcarResuelto(topico.getId());
+        em.clear();
+
+        // THEN
+        Topico actualizado = em.find(Topico.class, topico.getId());
+        assertThat(resueltos).isEqualTo(1);
+        assertThat(yaResueltos).isZero();
+        assertThat(actualizado.getStatus()).isEqualTo(StatusTopico.RESUELTO);
+        assertThat(actualizado.getSolucionesCount()).isEqualTo(1);
+        assertThat(actualizado.getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debería cambiar la versión del tópico al actualizarlo y al modificar sus contadores")
+    void findVersion_CambiaConCadaModificacion() {
+        // GIVEN
+        Topico topico = registrarTopico("Topico 1", "msg1", true, LocalDateTime.now());
+        em.flush();
+        TopicoVersion inicial = topicoRepository.findVersion(topico.getId()).orElseThrow();
+
+        // WHEN
+        topico.setTitulo("Topico editado");
+        em.flush();
+        TopicoVersion editado = topicoRepository.findVersion(topico.getId()).orElseThrow();
+        topicoRepository.incrementarRespuestas(topico.getId(), LocalDateTime.now());
+        TopicoVersion conRespuesta = topicoRepository.findVersion(topico.getId()).orElseThrow();
+
+        // THEN
+        assertThat(inicial.version()).isZero();
+        assertThat(inicial.cursoVersion()).isZero();
+        assertThat(editado.version()).isEqualTo(1);
+        assertThat(conRespuesta.version()).isEqualTo(2);
+        assertThat(topicoRepository.findVersion(registrarTopico("Eliminado", "msg2", false, LocalDateTime.now()).getId()))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería insertar un lote con ids en bloque y dejar los contadores en sus DEFAULT")
+    void insertarEnLote_AsignaIdsGenerados() {
+        // GIVEN
+        registrarTopico("Existente", "msg", true);
+        LocalDateTime ahora = LocalDateTime.now();
+        List<Topico> lote = List.of(
+                nuevoTopico("Importado 1", "msg1", ahora),
+                nuevoTopico("Importado 2", "msg2", ahora),
+                nuevoTopico("Importado 3", "msg3", ahora));
+
+        // WHEN
+        topicoRepository.insertarEnLote(lote);
+        em.clear();
+
+        // THEN
+        assertThat(lote).extracting(Topico::getId).doesNotContainNull().doesNotHaveDuplicates();
+        Topico leido = topicoRepository.findById(lote.get(1).getId()).orElseThrow();
+        assertThat(leido.getTitulo()).isEqualTo("Importado 2");
+        assertThat(leido.getRespuestasCount()).isZero();
+        assertThat(leido.getVersion()).isZero();
+        assertThat(topicoRepository.findContenidoHashExistentes(List.of(
+                ContenidoHashUtils.calcular("Importado 3", "msg3"),
+                ContenidoHashUtils.calcular("Existente", "msg"),
+                ContenidoHashUtils.calcular("No existe", "msg"))))
+                .containsExactlyInAnyOrder(
+                        ContenidoHashUtils.calcular("Importado 3", "msg3"),
+                        ContenidoHashUtils.calcular("Existente", "msg"));
+    }
+
+    @Test
+    @DisplayName("Debería enviar los INSERT de un lote en un batch JDBC en lugar de uno por tópico")
+    void insertarEnLote_AgrupaInserts() {
+        // GIVEN
+        LocalDateTime ahora = LocalDateTime.now();
+        List<Topico> lote = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            lote.add(nuevoTopico("Importado " + i, "msg" + i, ahora));
+        }
+        em.flush();
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // WHEN
+        topicoRepository.insertarEnLote(lote);
+
+        // THEN: un INSERT preparado para todo el lote, más la reserva de bloques de ids en secuencias_id
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(40);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        assertThat(lote).extracting(Topico::getId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Debería rechazar el UPDATE de una entidad leída antes de que otra escritura cambiara su versión")
+    void actualizarEntidadVieja_LanzaOptimisticLock() {
+        // GIVEN
+        Topico topico = registrarTopico("Topico 1", "msg1", true, LocalDateTime.now());
+        em.flush();
+
+        // WHEN: un contador avanza la versión en la base; la entidad gestionada sigue en la versión 0
+        topicoRepository.incrementarRespuestas(topico.getId(), LocalDateTime.now());
+        topico.setTitulo("Topico editado");
+
+        // THEN
+        assertThatThrownBy(() -> em.flush()).isInstanceOf(OptimisticLockException.class);
+    }
+
+    @Test
+    @DisplayName("Debería recalcular los contadores desviados sin cambiar la versión de los tópicos correctos")
+    void recalcularContadores() {
+        // GIVEN
+        LocalDateTime fecha = LocalDateTime.of(2026, 2, 4, 15, 30);
+        Topico topico = registrarTopico("Topico 1", "msg1", true, fecha);
+        Topico sinRespuestas = registrarTopico("Topico 2", "msg2", true, fecha);
+        registrarRespuesta(topico, false, true, fecha.plusHours(1));
+        registrarRespuesta(topico, true, true, fecha.plusHours(2));
+        registrarRespuesta(topico, true, false, fecha.plusHours(3));
+        em.flush();
+        Long versionSinRespuestas = sinRespuestas.getVersion();
+
+        // WHEN
+        List<Long> ids = topicoRepository.findIdsDespuesDe(0L, PageRequest.of(0, 10));
+        int corregidos = topicoRepository.recalcularContadores(ids);
+        em.clear();
+
+        // THEN
+        Topico actualizado = em.find(Topico.class, topico.getId());
+        assertThat(ids).containsExactly(topico.getId(), sinRespuestas.getId());
+        assertThat(corregidos).isEqualTo(1);
+        assertThat(actualizado.getRespuestasCount()).isEqualTo(2);
+        assertThat(actualizado.getSolucionesCount()).isEqualTo(1);
+        assertThat(actualizado.getUltimaRespuestaFecha()).isEqualTo(fecha.plusHours(2));
+        assertThat(em.find(Topico.class, sinRespuestas.getId()).getVersion()).isEqualTo(versionSinRespuestas);
+
+        // Una segunda pasada ya no encuentra desvíos
+        assertThat(topicoRepository.recalcularContadores(ids)).isZero();
+    }
+
+    private void registrarRespuesta(Topico topico, boolean solucion, boolean activo, LocalDateTime fechaCreacion) {
+        em.persist(Respuesta.builder()
+                .withMensaje("Respuesta")
+                .withTopico(topico)
+                .withAutor(usuario)
+                .withSolucion(solucion)
+                .withActivo(activo)
+                .withFechaCreacion(fechaCreacion)
+                .build());
     }
 
     private void registrarTopico(String titulo, String mensaje, boolean activo) {
+        registrarTopico(titulo, mensaje, activo, LocalDateTime.now());
+    }
+
+    private Topico nuevoTopico(String titulo, String mensaje, LocalDateTime fecha) {
+        return Topico.builder()
+                .withTitulo(titulo)
+                .withMensaje(mensaje)
+                .withFechaCreacion(fecha)
+                .withStatus(StatusTopico.ABIERTO)
+                .withAutor(usuario)
+                .withCurso(curso)
+                .withActivo(true)
+                .withContenidoHash(ContenidoHashUtils.calcular(titulo, mensaje))
+                .withFechaModificacion(fecha)
+                .build();
+    }
+
+    private Topico registrarTopico(String titulo, String mensaje, boolean activo, LocalDateTime fechaCreacion) {
         Topico topico = Topico.builder()
                 .withTitulo(titulo)
                 .withMensaje(mensaje)
-                .withFechaCreacion(LocalDateTime.now())
+                .withFechaCreacion(fechaCreacion)
                 .withStatus(StatusTopico.ABIERTO)
                 .withAutor(usuario)
                 .withCurso(curso)
                 .withActivo(activo)
                 .build();
-        em.persist(topico);
+        return em.persist(topico);
     }
 }
@@ -0,0 +1,194 @@
+package com.foro_hub.search;
+
+import com.foro_hub.domain.enums.StatusTopico;
+import com.foro_hub.dto.topico.TopicoSearchResultDTO;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.MMapDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopicoSearchIndexTest {
+
+    private TopicoSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TopicoSearchIndex(new ByteBuffersDirectory(), 1000);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("Debería ordenar por relevancia: una coincidencia en el título pesa más que en el mensaje")
+    void buscar_OrdenaPorRelevancia() {
+        // GIVEN
+        index.indexar(List.of(
+                documento(1L, "Consulta general", "Tengo un problema con Spring Security", StatusTopico.ABIERTO, 1L),
+                documento(2L, "Spring Security con JWT", "No logro validar el token", StatusTopico.ABIERTO, 1L)));
+        index.refrescar();
+
+        // WHEN
+        List<TopicoSearchResultDTO> resultados = index.buscar("security", null, null, null, null, 10);
+
+        // THEN
+        assertThat(resultados).extracting(TopicoSearchResultDTO::id).containsExactly(2L, 1L);
+        assertThat(resultados.get(0).titulo()).isEqualTo("Spring <mark>Security</mark> con JWT");
+        assertThat(resultados.get(1).fragmento()).contains("<mark>Security</mark>");
+    }
+
+    @Test
+    @DisplayName("Debería ignorar acentos y mayúsculas, y encontrar texto de las respuestas")
+    void buscar_SinAcentosYEnRespuestas() {
+        // GIVEN
+        index.indexar(documento(1L, "¿Cómo configuro la autenticación?", "Mensaje", StatusTopico.ABIERTO, 1L));
+        index.indexar(TopicoDocumento.builder()
+                .withId(2L)
+                .withTitulo("Error al iniciar")
+                .withMensaje("La aplicación no arranca")
+                .withStatus(StatusTopico.ABIERTO)
+                .withCursoId(1L)
+                .withCursoNombre("Spring Boot")
+                .withFechaCreacion(LocalDateTime.of(2026, 2, 4, 15, 30))
+                .withRespuestas(List.of("Revisá la configuración de Flyway"))
+                .build());
+        index.refrescar();
+
+        // WHEN & THEN
+        assertThat(index.buscar("COMO AUTENTICACION", null, null, null, null, 10))
+                .extracting(TopicoSearchResultDTO::id).containsExactly(1L);
+        assertThat(index.buscar("flyway", null, null, null, null, 10))
+                .extracting(TopicoSearchResultDTO::id).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Debería filtrar por curso y estado")
+    void buscar_FiltraPorCursoYEstado() {
+        // GIVEN
+        index.indexar(List.of(
+                documento(1L, "Duda de Java", "streams", StatusTopico.ABIERTO, 1L),
+                documento(2L, "Duda de Java", "records", StatusTopico.RESUELTO, 1L),
+                documento(3L, "Duda de Java", "lambdas", StatusTopico.ABIERTO, 2L)));
+        index.refrescar();
+
+        // WHEN & THEN
+        assertThat(index.buscar("java", 1L, null, null, null, 10))
+                .extracting(TopicoSearchResultDTO::id).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.buscar("java", 1L, StatusTopico.ABIERTO, null, null, 10))
+                .extracting(TopicoSearchResultDTO::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Debería paginar con searchAfter sobre (score, id) sin repetir ni saltear resultados")
+    void buscar_PaginaPorKeyset() {
+        // GIVEN
+        for (long id = 1; id <= 5; id++) {
+            index.indexar(documento(id, "Topico " + id, "Mensaje sobre hibernate", StatusTopico.ABIERTO, 1L));
+        }
+        index.refrescar();
+
+        // WHEN
+        List<TopicoSearchResultDTO> primera = index.buscar("hibernate", null, null, null, null, 2);
+        TopicoSearchResultDTO ultimo = primera.get(1);
+        List<TopicoSearchResultDTO> segunda = index.buscar("hibernate", null, null, ultimo.score(), ultimo.id(), 10);
+
+        // THEN
+        assertThat(primera).extracting(TopicoSearchResultDTO::id).containsExactly(5L, 4L);
+        assertThat(segunda).extracting(TopicoSearchResultDTO::id).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Debería reemplazar el documento al reindexar y quitarlo al eliminar")
+    void indexarYEliminar() {
+        // GIVEN
+        index.indexar(documento(1L, "Titulo viejo", "Mensaje", StatusTopico.ABIERTO, 1L));
+
+        // WHEN
+        index.indexar(documento(1L, "Titulo nuevo", "Mensaje", StatusTopico.ABIERTO, 1L));
+        index.refrescar();
+
+        // THEN
+        assertThat(index.buscar("viejo", null, null, null, null, 10)).isEmpty();
+        assertThat(index.buscar("nuevo", null, null, null, null, 10)).hasSize(1);
+        assertThat(index.cantidadDocumentos()).isEqualTo(1);
+
+        index.eliminar(1L);
+        index.refrescar();
+        assertThat(index.buscar("nuevo", null, null, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Una escritura no debería ser visible hasta el refresco, y las estadísticas deberían reflejar el lag")
+    void indexar_VisibleTrasRefresco() {
+        // GIVEN
+        index.indexar(documento(1L, "Consulta sobre Docker", "Mensaje", StatusTopico.ABIERTO, 1L));
+
+        // WHEN & THEN
+        assertThat(index.buscar("docker", null, null, null, null, 10)).isEmpty();
+        assertThat(index.estadisticas().visibleAlDia()).isFalse();
+
+        index.refrescar();
+        TopicoSearchIndexStats stats = index.estadisticas();
+        assertThat(index.buscar("docker", null, null, null, null, 10)).hasSize(1);
+        assertThat(stats.visibleAlDia()).isTrue();
+        assertThat(stats.lagMs()).isZero();
+        assertThat(stats.refrescos()).isPositive();
+        assertThat(stats.documentos()).isEqualTo(1);
+        assertThat(stats.cambiosSinConfirmar()).isTrue();
+
+        index.confirmar();
+        assertThat(index.estadisticas().cambiosSinConfirmar()).isFalse();
+        assertThat(index.estadisticas().ultimoCommit()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Debería conservar el índice en disco tras un cierre ordenado y pedir reconstrucción si no lo hubo")
+    void reabrir_SoloReconstruyeSinCierreLimpio(@TempDir Path ruta) throws IOException {
+        // GIVEN
+        TopicoSearchIndex enDisco = new TopicoSearchIndex(ruta, 1000);
+        assertThat(enDisco.requiereReconstruccion()).isTrue();
+        enDisco.indexar(documento(1L, "Consulta sobre Docker", "Mensaje", StatusTopico.ABIERTO, 1L));
+        enDisco.close();
+
+        // WHEN
+        TopicoSearchIndex reabierto = new TopicoSearchIndex(ruta, 1000);
+
+        // THEN
+        assertThat(reabierto.requiereReconstruccion()).isFalse();
+        assertThat(reabierto.buscar("docker", null, null, null, null, 10)).hasSize(1);
+        assertThat(reabierto.estadisticas().tamanioBytes()).isPositive();
+
+        // Mientras está abierto, el último commit queda marcado como no limpio: si el proceso muere, se reconstruye
+        try (MMapDirectory directorio = new MMapDirectory(ruta)) {
+            assertThat(SegmentInfos.readLatestCommit(directorio).getUserData())
+                    .containsEntry(TopicoSearchIndex.CIERRE_LIMPIO, "false");
+        }
+        reabierto.close();
+    }
+
+    private static TopicoDocumento documento(Long id, String titulo, String mensaje, StatusTopico status, Long cursoId) {
+        return TopicoDocumento.builder()
+                .withId(id)
+                .withTitulo(titulo)
+                .withMensaje(mensaje)
+                .withStatus(status)
+                .withCursoId(cursoId)
+                .withCursoNombre("Curso " + cursoId)
+                .withFechaCreacion(LocalDateTime.of(2026, 2, 4, 15, 30))
+                .withRespuestas(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.foro_hub.security;
+
+import com.foro_hub.exception.PasswordHashingOverloadException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests para BoundedPasswordEncoder")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch liberar = new CountDownLatch(1);
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        liberar.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("encode y matches deberían ejecutarse en el pool dedicado y registrar su latencia en timers creados al inicio")
+    void encodeYMatches_deberianDelegarEnElPool() {
+        // Given
+        executor = new PasswordHashingExecutor(2, 4, 5_000, 1, meterRegistry);
+        final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor);
+        final Timer encode = meterRegistry.get(PasswordHashingExecutor.METRIC_NAME).tag("operacion", "encode").timer();
+        final Timer matches = meterRegistry.get(PasswordHashingExecutor.METRIC_NAME).tag("operacion", "matches").timer();
+
+        // When
+        final String hash = encoder.encode("password123");
+
+        // Then
+        assertTrue(encoder.matches("password123", hash));
+        assertFalse(encoder.matches("otra", hash));
+        assertEquals(1, encode.count());
+        assertEquals(2, matches.count());
+    }
+
+    @Test
+    @DisplayName("Con el pool y la cola llenos debería rechazar con Retry-After sin esperar")
+    void encode_poolSaturado_deberiaRechazar() throws Exception {
+        // Given
+        executor = new PasswordHashingExecutor(1, 0, 5_000, 3, meterRegistry);
+        final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor);
+        ocuparPool();
+
+        // When
+        final PasswordHashingOverloadException ex = assertThrows(PasswordHashingOverloadException.class,
+                () -> encoder.encode("password123"));
+
+        // Then
+        assertEquals(3, ex.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get(PasswordHashingExecutor.METRIC_NAME + ".rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("Una tarea que espera en cola más que el timeout debería rechazarse y salir de la cola")
+    void matches_esperaMayorAlTimeout_deberiaRechazar() throws Exception {
+        // Given
+        executor = new PasswordHashingExecutor(1, 1, 50, 1, meterRegistry);
+        final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor);
+        ocuparPool();
+
+        // When & Then
+        assertThrows(PasswordHashingOverloadException.class, () -> encoder.matches("password123", "hash"));
+        assertEquals(0, executor.queueSize());
+    }
+
+    // Deja el único hilo del pool bloqueado hasta el tearDown, aunque su propia espera expire
+    private void ocuparPool() throws InterruptedException {
+        final CountDownLatch iniciado = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> executor.execute(PasswordHashingExecutor.Operacion.ENCODE, () -> {
+            iniciado.countDown();
+            boolean liberado = false;
+            while (!liberado) {
+                try {
+                    liberado = liberar.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    // Igual que BCrypt, la tarea no responde a la cancelación
+                }
+            }
+            return null;
+        }));
+        assertTrue(iniciado.await(5, TimeUnit.SECONDS));
+    }
+}
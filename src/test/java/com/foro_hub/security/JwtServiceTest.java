@@ -0,0 +1,116 @@
+package com.foro_hub.security;
+
+import com.foro_hub.domain.Perfil;
+import com.foro_hub.domain.Usuario;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests para JwtService")
+class JwtServiceTest {
+
+    private static final String SECRET = "forohub_jwt_secret_key_min_256_bits_required_for_security";
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtService jwtService;
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(100, meterRegistry);
+        jwtService = new JwtService(SECRET, 3_600_000L, verifiedTokenCache);
+
+        usuario = Usuario.builder()
+                .withId(1L)
+                .withNombre("Juan Pérez")
+                .withEmail("juan@test.com")
+                .withContrasena("password123")
+                .withActivo(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Validar el mismo token varias veces debería verificarlo una sola vez y servirlo desde cache")
+    void extractAllClaims_mismoToken_deberiaServirseDesdeCache() {
+        // Given
+        final String token = jwtService.generateToken(usuario);
+
+        // When
+        final Claims primera = jwtService.extractAllClaims(token);
+        final Claims segunda = jwtService.extractAllClaims(token);
+
+        // Then
+        assertEquals("juan@test.com", primera.getSubject());
+        assertSame(primera, segunda);
+        assertTrue(jwtService.isTokenValid(segunda, usuario));
+        assertEquals(1, verifiedTokenCache.size());
+        assertEquals(0.5, verifiedTokenCache.hitRate());
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME).meter());
+    }
+
+    @Test
+    @DisplayName("El token debería incluir id, nombre y roles para reconstruir el principal sin consultar la base de datos")
+    void toAuthenticatedUser_deberiaReconstruirPrincipalDesdeClaims() {
+        // Given
+        usuario.setPerfiles(Set.of(Perfil.builder().withId(1L).withNombre("USER").build()));
+        final String token = jwtService.generateToken(usuario);
+
+        // When
+        final AuthenticatedUser principal = jwtService.toAuthenticatedUser(jwtService.extractAllClaims(token));
+
+        // Then
+        assertEquals(new AuthenticatedUser(1L, "juan@test.com", "Juan Pérez", List.of("ROLE_USER")), principal);
+        assertEquals("ROLE_USER", principal.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    @DisplayName("Un token sin claims de id y roles no debería producir principal")
+    void toAuthenticatedUser_tokenSinClaims_deberiaRetornarNull() {
+        // Given
+        final String token = Jwts.builder()
+                .subject("juan@test.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        // When & Then
+        assertNull(jwtService.toAuthenticatedUser(jwtService.extractAllClaims(token)));
+    }
+
+    @Test
+    @DisplayName("Un token expirado debería rechazarse y no quedar en cache")
+    void extractAllClaims_tokenExpirado_deberiaLanzarExpiredJwtException() {
+        // Given
+        final JwtService jwtServiceExpirado = new JwtService(SECRET, -1_000L, verifiedTokenCache);
+        final String token = jwtServiceExpirado.generateToken(usuario);
+
+        // When & Then
+        assertThrows(ExpiredJwtException.class, () -> jwtService.extractAllClaims(token));
+        assertEquals(0, verifiedTokenCache.size());
+    }
+
+    @Test
+    @DisplayName("Un token firmado con otra clave debería rechazarse")
+    void extractAllClaims_firmaInvalida_deberiaLanzarExcepcion() {
+        // Given
+        final JwtService otroEmisor = new JwtService(SECRET + "_otro", 3_600_000L, verifiedTokenCache);
+        final String token = otroEmisor.generateToken(usuario);
+
+        // When & Then
+        assertThrows(io.jsonwebtoken.security.SignatureException.class, () -> jwtService.extractAllClaims(token));
+    }
+}
@@ -0,0 +1,115 @@
+package com.foro_hub.security;
+
+import com.foro_hub.config.CacheConfig;
+import com.foro_hub.domain.Perfil;
+import com.foro_hub.domain.Usuario;
+import com.foro_hub.repository.UsuarioRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para UserDetailsServiceImpl")
+class UserDetailsServiceImplTest {
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @InjectMocks
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Test
+    @DisplayName("Cargar un usuario debería devolver una copia independiente de la entidad")
+    void loadUserByUsername_deberiaDevolverSnapshot() {
+        // Given
+        final Perfil perfil = new Perfil(1L, "USER");
+        final Usuario usuario = Usuario.builder()
+                .withId(1L)
+                .withNombre("Juan Pérez")
+                .withEmail("juan@test.com")
+                .withContrasena("hash")
+                .withPerfiles(new HashSet<>(Set.of(perfil)))
+                .withActivo(true)
+                .build();
+        when(usuarioRepository.findByEmail("juan@test.com")).thenReturn(Optional.of(usuario));
+
+        // When
+        final UserDetails resultado = userDetailsService.loadUserByUsername("juan@test.com");
+
+        // Then
+        assertNotSame(usuario, resultado);
+        assertEquals("juan@test.com", resultado.getUsername());
+        assertEquals("hash", resultado.getPassword());
+        assertTrue(resultado.isEnabled());
+        assertEquals(1, resultado.getAuthorities().size());
+
+        usuario.getPerfiles().clear();
+        assertEquals(1, resultado.getAuthorities().size());
+    }
+
+    @Test
+    @DisplayName("Cargar un email inexistente debería lanzar UsernameNotFoundException")
+    void loadUserByUsername_emailInexistente_deberiaLanzarExcepcion() {
+        // Given
+        when(usuarioRepository.findByEmail("nadie@test.com")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername("nadie@test.com"));
+    }
+
+    @Test
+    @DisplayName("Actualizar la contraseña debería guardar el nuevo hash en la entidad")
+    void updatePassword_deberiaGuardarNuevoHash() {
+        // Given
+        final Usuario usuario = Usuario.builder()
+                .withId(1L)
+                .withEmail("juan@test.com")
+                .withContrasena("$2a$04$hashViejo")
+                .withActivo(true)
+                .build();
+        when(usuarioRepository.findByEmail("juan@test.com")).thenReturn(Optional.of(usuario));
+        when(usuarioRepository.save(usuario)).thenReturn(usuario);
+
+        // When
+        final UserDetails resultado = userDetailsService.updatePassword(usuario, "{bcrypt}$2a$10$hashNuevo");
+
+        // Then
+        assertEquals("{bcrypt}$2a$10$hashNuevo", usuario.getContrasena());
+        assertEquals("{bcrypt}$2a$10$hashNuevo", resultado.getPassword());
+        assertNotSame(usuario, resultado);
+    }
+
+    @Test
+    @DisplayName("Modificar un usuario fuera de una transacción debería removerlo del cache")
+    void onUsuarioModificado_deberiaRemoverDelCache() {
+        // Given
+        final CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.USUARIOS_CACHE);
+        final UsuarioCacheListener listener = new UsuarioCacheListener(
+                new StaticListableBeanFactory(Map.of("cacheManager", cacheManager)).getBeanProvider(CacheManager.class));
+        final Usuario usuario = Usuario.builder().withEmail("juan@test.com").build();
+        cacheManager.getCache(CacheConfig.USUARIOS_CACHE).put("juan@test.com", usuario);
+
+        // When
+        listener.onUsuarioModificado(usuario);
+
+        // Then
+        assertNull(cacheManager.getCache(CacheConfig.USUARIOS_CACHE).get("juan@test.com"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.foro_hub.security;
+
+import com.foro_hub.config.CacheConfig;
+import com.foro_hub.domain.Usuario;
+import com.foro_hub.repository.PerfilRepository;
+import com.foro_hub.repository.UsuarioRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Sin la transacción de @DataJpaTest: la eviction se registra para después del commit
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Tests para UsuarioCacheListener")
+class UsuarioCacheListenerTest {
+
+    private static final String EMAIL = "juan@test.com";
+
+    @TestConfiguration
+    static class CacheTestConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheConfig.USUARIOS_CACHE);
+        }
+    }
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private PerfilRepository perfilRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        usuarioRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Cambiar solo los perfiles de un usuario debería invalidarlo en el cache al confirmar")
+    void cambioSoloDePerfiles_invalidaElCache() {
+        // Given
+        final TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+        final Long id = transaccion.execute(status -> usuarioRepository.save(Usuario.builder()
+                .withNombre("Juan Pérez")
+                .withEmail(EMAIL)
+                .withContrasena("password123")
+                .withPerfiles(new HashSet<>(Set.of(perfilRepository.findByNombre("USER").orElseThrow())))
+                .build()).getId());
+        final Cache cache = cacheManager.getCache(CacheConfig.USUARIOS_CACHE);
+        cache.put(EMAIL, "usuario cacheado con ROLE_USER");
+
+        // When: se revoca USER y se otorga ADMIN, sin tocar ninguna columna de usuarios
+        transaccion.executeWithoutResult(status -> {
+            final Usuario usuario = usuarioRepository.findById(id).orElseThrow();
+            usuario.getPerfiles().clear();
+            usuario.getPerfiles().add(perfilRepository.findByNombre("ADMIN").orElseThrow());
+        });
+
+        // Then
+        assertThat(cache.get(EMAIL)).isNull();
+        final Usuario actualizado = usuarioRepository.findById(id).orElseThrow();
+        assertThat(actualizado.getVersion()).isEqualTo(1L);
+        assertThat(actualizado.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_ADMIN");
+    }
+}
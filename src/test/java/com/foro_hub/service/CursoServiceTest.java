@@ -4,20 +4,25 @@ import com.foro_hub.domain.Curso;
 import com.foro_hub.dto.curso.CursoCreateDTO;
 import com.foro_hub.dto.curso.CursoResponseDTO;
 import com.foro_hub.dto.curso.CursoUpdateDTO;
+import com.foro_hub.exception.PreconditionFailedException;
 import com.foro_hub.exception.ResourceNotFoundException;
+import com.foro_hub.mapper.CursoMapper;
 import com.foro_hub.repository.CursoRepository;
+import com.foro_hub.util.Versionado;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,7 +37,9 @@ class CursoServiceTest {
     @Mock
     private CursoRepository cursoRepository;
 
-    @InjectMocks
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private CursoService cursoService;
 
     private CursoCreateDTO cursoCreateDTO;
@@ -41,6 +48,8 @@ class CursoServiceTest {
 
     @BeforeEach
     void setUp() {
+        cursoService = new CursoService(cursoRepository, new ReintentoOptimista(transactionManager, 3));
+
         cursoCreateDTO = new CursoCreateDTO(
                 "Spring Boot Avanzado",
                 "Backend"
@@ -56,6 +65,8 @@ class CursoServiceTest {
                 .withNombre("Spring Boot Avanzado")
                 .withCategoria("Backend")
                 .withActivo(true)
+                .withVersion(2L)
+                .withFechaModificacion(LocalDateTime.of(2026, 2, 4, 15, 30))
                 .build();
     }
 
@@ -110,11 +121,10 @@ class CursoServiceTest {
     @DisplayName("Listar cursos debería retornar Page de CursoResponseDTO")
     void listarCursos_deberiaRetornarPageDeCursoResponseDTO() {
         // Given
-        final List<Curso> cursos = List.of(curso);
-        final Page<Curso> pageCursos = new PageImpl<>(cursos);
+        final Page<CursoResponseDTO> pageCursos = new PageImpl<>(List.of(CursoMapper.toResponseDTO(curso)));
         final Pageable pageable = PageRequest.of(0, 10);
 
-        when(cursoRepository.findByActivoTrue(pageable)).thenReturn(pageCursos);
+        when(cursoRepository.findActivos(pageable)).thenReturn(pageCursos);
 
         // When
         final Page<CursoResponseDTO> response = cursoService.listarCursos(pageable);
@@ -131,14 +141,17 @@ class CursoServiceTest {
     void actualizarCurso_conDatosValidos_deberiaActualizarYRetornarCursoResponseDTO() {
         // Given
         when(cursoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(curso));
-        when(cursoRepository.save(any(Curso.class))).thenReturn(curso);
 
         // When
-        final CursoResponseDTO response = cursoService.actualizarCurso(1L, cursoUpdateDTO);
+        final Versionado<CursoResponseDTO> actualizado = cursoService.actualizarCurso(1L, cursoUpdateDTO, null);
 
         // Then
-        assertNotNull(response);
-        assertEquals(1L, response.id());
+        assertNotNull(actualizado.cuerpo());
+        assertEquals(1L, actualizado.cuerpo().id());
+        assertEquals("\"2\"", actualizado.version().etag());
+        verify(cursoRepository).flush();
+        verify(cursoRepository, never()).saveAndFlush(any(Curso.class));
+        verify(cursoRepository, never()).findVersion(any());
     }
 
     @Test
@@ -150,7 +163,7 @@ class CursoServiceTest {
         // When & Then
         final ResourceNotFoundException exception = assertThrows(
                 ResourceNotFoundException.class,
-                () -> cursoService.actualizarCurso(999L, cursoUpdateDTO)
+                () -> cursoService.actualizarCurso(999L, cursoUpdateDTO, null)
         );
 
         assertTrue(exception.getMessage().contains("No se encontró el curso con ID: 999"));
@@ -161,7 +174,6 @@ class CursoServiceTest {
     void eliminarCurso_conIdExistente_deberiaMarcarComoInactivo() {
         // Given
         when(cursoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(curso));
-        when(cursoRepository.save(any(Curso.class))).thenReturn(curso);
 
         // When
         cursoService.eliminarCurso(1L);
@@ -199,31 +211,71 @@ class CursoServiceTest {
     }
 
     @Test
-    @DisplayName("Actualizar curso debería guardar los cambios en el repositorio")
-    void actualizarCurso_deberiaGuardarCambiosEnRepositorio() {
+    @DisplayName("Actualizar curso debería modificar la entidad gestionada sin un save redundante")
+    void actualizarCurso_noDeberiaLlamarASave() {
         // Given
         when(cursoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(curso));
-        when(cursoRepository.save(any(Curso.class))).thenReturn(curso);
 
         // When
-        cursoService.actualizarCurso(1L, cursoUpdateDTO);
+        cursoService.actualizarCurso(1L, cursoUpdateDTO, 2L);
 
         // Then
-        verify(cursoRepository, times(1)).save(any(Curso.class));
+        verify(cursoRepository, never()).save(any(Curso.class));
+        verify(transactionManager).commit(any());
+        assertEquals("Spring Boot Avanzado - Actualizado", curso.getNombre());
     }
 
     @Test
-    @DisplayName("Eliminar curso debería guardar el estado inactivo en el repositorio")
-    void eliminarCurso_deberiaGuardarEstadoInactivoEnRepositorio() {
+    @DisplayName("Eliminar curso debería marcar la entidad gestionada como inactiva sin un save redundante")
+    void eliminarCurso_noDeberiaLlamarASave() {
         // Given
         when(cursoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(curso));
-        when(cursoRepository.save(any(Curso.class))).thenReturn(curso);
 
         // When
         cursoService.eliminarCurso(1L);
 
         // Then
-        verify(cursoRepository, times(1)).save(any(Curso.class));
+        verify(cursoRepository, never()).save(any(Curso.class));
         assertFalse(curso.getActivo());
     }
+
+    @Test
+    @DisplayName("Actualizar curso con If-Match de otra versión debería lanzar PreconditionFailedException sin modificarlo")
+    void actualizarCurso_conVersionDistinta_deberiaLanzarPreconditionFailedException() {
+        // Given
+        when(cursoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(curso));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class, () -> cursoService.actualizarCurso(1L, cursoUpdateDTO, 1L));
+        assertEquals("Spring Boot Avanzado", curso.getNombre());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Actualizar curso sin If-Match no debería reaplicar el PUT ante un conflicto de versión")
+    void actualizarCurso_sinIfMatchConConflicto_noDeberiaReintentar() {
+        // Given
+        when(cursoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(curso));
+        doThrow(new ObjectOptimisticLockingFailureException(Curso.class, 1L))
+                .when(transactionManager).commit(any());
+
+        // When & Then: reaplicarlo sobre la fila releída pisaría la otra escritura (last-writer-wins)
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> cursoService.actualizarCurso(1L, cursoUpdateDTO, null));
+        verify(cursoRepository, times(1)).findByIdAndActivoTrue(1L);
+    }
+
+    @Test
+    @DisplayName("Actualizar curso con If-Match no debería reintentar ante un conflicto de versión")
+    void actualizarCurso_conIfMatchConConflicto_noDeberiaReintentar() {
+        // Given
+        when(cursoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(curso));
+        doThrow(new ObjectOptimisticLockingFailureException(Curso.class, 1L))
+                .when(transactionManager).commit(any());
+
+        // When & Then
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> cursoService.actualizarCurso(1L, cursoUpdateDTO, 2L));
+        verify(cursoRepository, times(1)).findByIdAndActivoTrue(1L);
+    }
 }
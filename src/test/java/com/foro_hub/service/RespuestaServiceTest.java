@@ -0,0 +1,223 @@
+package com.foro_hub.service;
+
+import com.foro_hub.domain.Curso;
+import com.foro_hub.domain.Respuesta;
+import com.foro_hub.domain.Topico;
+import com.foro_hub.domain.Usuario;
+import com.foro_hub.domain.enums.StatusTopico;
+import com.foro_hub.dto.pagination.CursorPageDTO;
+import com.foro_hub.dto.respuesta.RespuestaCreateDTO;
+import com.foro_hub.dto.respuesta.RespuestaResponseDTO;
+import com.foro_hub.dto.respuesta.RespuestaUpdateDTO;
+import com.foro_hub.exception.ResourceNotFoundException;
+import com.foro_hub.repository.RespuestaRepository;
+import com.foro_hub.repository.TopicoRepository;
+import com.foro_hub.repository.UsuarioRepository;
+import com.foro_hub.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para RespuestaService")
+class RespuestaServiceTest {
+
+    @Mock
+    private RespuestaRepository respuestaRepository;
+
+    @Mock
+    private TopicoRepository topicoRepository;
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private TopicoSearchService topicoSearchService;
+
+    @Spy
+    private ReintentoOptimista reintentoOptimista = new ReintentoOptimista(mock(PlatformTransactionManager.class), 3);
+
+    @InjectMocks
+    private RespuestaService respuestaService;
+
+    private Usuario usuario;
+    private Topico topico;
+    private Respuesta respuesta;
+
+    @BeforeEach
+    void setUp() {
+        usuario = Usuario.builder()
+                .withId(1L)
+                .withNombre("Juan Pérez")
+                .withEmail("juan@test.com")
+                .withContrasena("password123")
+                .withActivo(true)
+                .build();
+
+        topico = Topico.builder()
+                .withId(1L)
+                .withTitulo("¿Cómo aprender Spring Boot?")
+                .withMensaje("Necesito recursos para aprender Spring Boot desde cero")
+                .withStatus(StatusTopico.ABIERTO)
+                .withAutor(usuario)
+                .withCurso(Curso.builder().withId(1L).withNombre("Spring Boot").withCategoria("Backend").build())
+                .withActivo(true)
+                .build();
+
+        respuesta = Respuesta.builder()
+                .withId(10L)
+                .withMensaje("Empezá por la guía oficial")
+                .withTopico(topico)
+                .withAutor(usuario)
+                .withFechaCreacion(LocalDateTime.of(2026, 2, 4, 16, 0))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Crear respuesta en un tópico activo debería guardarla con el usuario autenticado como autor")
+    void crearRespuesta_conTopicoActivo_deberiaCrearRespuesta() {
+        // Given
+        final AuthenticatedUser principal = AuthenticatedUser.from(usuario);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        when(topicoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(topico));
+        when(usuarioRepository.getReferenceById(1L)).thenReturn(usuario);
+        when(respuestaRepository.save(any(Respuesta.class))).thenReturn(respuesta);
+
+        // When
+        final RespuestaResponseDTO response = respuestaService.crearRespuesta(1L, new RespuestaCreateDTO("Empezá por la guía oficial"));
+
+        // Then
+        assertEquals(10L, response.id());
+        assertEquals(1L, response.topicoId());
+        assertFalse(response.solucion());
+        verify(respuestaRepository).save(argThat(r -> r.getTopico() == topico && r.getAutor() == usuario));
+        verify(topicoRepository).incrementarRespuestas(1L, respuesta.getFechaCreacion());
+        verify(topicoSearchService).programarReindexacion(1L);
+    }
+
+    @Test
+    @DisplayName("Crear respuesta en un tópico inexistente debería lanzar ResourceNotFoundException")
+    void crearRespuesta_conTopicoInexistente_deberiaLanzarExcepcion() {
+        // Given
+        when(topicoRepository.findByIdAndActivoTrue(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class,
+                () -> respuestaService.crearRespuesta(99L, new RespuestaCreateDTO("mensaje")));
+        verify(respuestaRepository, never()).save(any());
+        verify(topicoRepository, never()).incrementarRespuestas(any(), any());
+    }
+
+    @Test
+    @DisplayName("Listar respuestas por cursor debería devolver la primera página del tópico")
+    void listarRespuestasPorCursor_primeraPagina() {
+        // Given
+        when(topicoRepository.existsByIdAndActivoTrue(1L)).thenReturn(true);
+        when(respuestaRepository.findByTopicoIdAndActivoTrueOrderByFechaCreacionAscIdAsc(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(respuesta));
+
+        // When
+        final CursorPageDTO<RespuestaResponseDTO> page = respuestaService.listarRespuestasPorCursor(1L, null, 10);
+
+        // Then
+        assertEquals(1, page.content().size());
+        assertNull(page.nextCursor());
+        assertNull(page.previousCursor());
+    }
+
+    @Test
+    @DisplayName("Listar respuestas de un tópico inexistente debería lanzar ResourceNotFoundException")
+    void listarRespuestasPorCursor_topicoInexistente_deberiaLanzarExcepcion() {
+        // Given
+        when(topicoRepository.existsByIdAndActivoTrue(99L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> respuestaService.listarRespuestasPorCursor(99L, null, 10));
+        verifyNoInteractions(respuestaRepository);
+    }
+
+    @Test
+    @DisplayName("Marcar una respuesta como solución debería pasar el tópico a RESUELTO")
+    void actualizarRespuesta_comoSolucion_deberiaResolverTopico() {
+        // Given
+        when(respuestaRepository.findDeTopicoActivo(10L, 1L)).thenReturn(Optional.of(respuesta));
+
+        // When
+        final RespuestaResponseDTO response = respuestaService.actualizarRespuesta(1L, 10L,
+                new RespuestaUpdateDTO("Empezá por la guía oficial de Spring", true));
+
+        // Then
+        assertTrue(response.solucion());
+        assertEquals("Empezá por la guía oficial de Spring", response.mensaje());
+        verify(topicoRepository).ajustarSoluciones(1L, 1);
+        verify(topicoRepository).marcarResuelto(1L);
+        // El estado lo escribe el UPDATE en la base: la entidad cargada, ya con versión vieja, no se modifica
+        assertEquals(StatusTopico.ABIERTO, topico.getStatus());
+    }
+
+    @Test
+    @DisplayName("Actualizar solo el mensaje de una respuesta no debería tocar el contador de soluciones")
+    void actualizarRespuesta_sinCambiarSolucion_noDeberiaAjustarSoluciones() {
+        // Given
+        when(respuestaRepository.findDeTopicoActivo(10L, 1L)).thenReturn(Optional.of(respuesta));
+
+        // When
+        respuestaService.actualizarRespuesta(1L, 10L, new RespuestaUpdateDTO("Mensaje corregido", null));
+
+        // Then
+        verify(topicoRepository, never()).ajustarSoluciones(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Eliminar una respuesta marcada como solución debería desactivarla y descontar respuestas y soluciones")
+    void eliminarRespuesta_solucion_deberiaDescontarContadores() {
+        // Given
+        respuesta.setSolucion(true);
+        when(respuestaRepository.findDeTopicoActivo(10L, 1L)).thenReturn(Optional.of(respuesta));
+
+        // When
+        respuestaService.eliminarRespuesta(1L, 10L);
+
+        // Then
+        assertFalse(respuesta.getActivo());
+        verify(topicoRepository).decrementarRespuestas(1L);
+        verify(topicoRepository).ajustarSoluciones(1L, -1);
+        verify(respuestaRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Eliminar una respuesta inexistente debería lanzar ResourceNotFoundException")
+    void eliminarRespuesta_inexistente_deberiaLanzarExcepcion() {
+        // Given
+        when(respuestaRepository.findDeTopicoActivo(99L, 1L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> respuestaService.eliminarRespuesta(1L, 99L));
+        verify(topicoRepository, never()).decrementarRespuestas(any());
+    }
+}
@@ -0,0 +1,250 @@
+package com.foro_hub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foro_hub.domain.Curso;
+import com.foro_hub.domain.Topico;
+import com.foro_hub.domain.Usuario;
+import com.foro_hub.dto.topico.TopicoImportItemDTO;
+import com.foro_hub.dto.topico.TopicoImportItemDTO.Resultado;
+import com.foro_hub.dto.topico.TopicoImportResultadoDTO;
+import com.foro_hub.repository.CursoRepository;
+import com.foro_hub.repository.TopicoRepository;
+import com.foro_hub.repository.UsuarioRepository;
+import com.foro_hub.security.AuthenticatedUser;
+import com.foro_hub.util.ContenidoHashUtils;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para TopicoImportService")
+class TopicoImportServiceTest {
+
+    @Mock
+    private TopicoRepository topicoRepository;
+
+    @Mock
+    private CursoRepository cursoRepository;
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private TopicoSearchService topicoSearchService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TopicoImportService topicoImportService;
+    private final AtomicLong secuencia = new AtomicLong(100);
+    private final Set<String> hashesEnBase = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        topicoImportService = new TopicoImportService(topicoRepository, cursoRepository, usuarioRepository, topicoSearchService,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), transactionManager, 2);
+
+        final Usuario usuario = Usuario.builder()
+                .withId(1L)
+                .withNombre("Juan Pérez")
+                .withEmail("juan@test.com")
+                .withContrasena("password123")
+                .withActivo(true)
+                .build();
+        final AuthenticatedUser principal = AuthenticatedUser.from(usuario);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Importar debería informar el resultado de cada línea y consultar hashes y cursos una vez por lote")
+    void importar_conLineasMixtas_deberiaInformarResultadoPorLinea() throws IOException {
+        // Given
+        when(cursoRepository.findByIdInAndActivoTrue(anyCollection())).thenReturn(List.of(curso()));
+        hashesEnBase.add(ContenidoHashUtils.calcular("Ya existe", "Mensaje"));
+        when(topicoRepository.findContenidoHashExistentes(anyCollection())).thenAnswer(invocation -> {
+            final Collection<String> hashes = invocation.getArgument(0);
+            return hashes.stream().filter(hashesEnBase::contains).toList();
+        });
+        asignarIdsAlInsertar();
+
+        final String ndjson = """
+                {"titulo": "Tópico nuevo", "mensaje": "Mensaje", "idCurso": 1}
+                {"titulo": "Ya existe", "mensaje": "Mensaje", "idCurso": 1}
+
+                {"titulo": "", "mensaje": "Mensaje", "idCurso": 1}
+                {"titulo": "Otro curso", "mensaje": "Mensaje", "idCurso": 99}
+                no es json
+                {"titulo": "Tópico   nuevo", "mensaje": "Mensaje ", "idCurso": 1}
+                """;
+
+        // When
+        final TopicoImportResultadoDTO resultado = importar(ndjson);
+
+        // Then
+        assertEquals(6, resultado.procesados());
+        assertEquals(1, resultado.creados());
+        assertEquals(2, resultado.duplicados());
+        assertEquals(3, resultado.invalidos());
+        assertEquals(List.of(1, 2, 4, 5, 6, 7), resultado.resultados().stream().map(TopicoImportItemDTO::linea).toList());
+        assertEquals(List.of(Resultado.CREADO, Resultado.DUPLICADO, Resultado.INVALIDO, Resultado.INVALIDO, Resultado.INVALIDO, Resultado.DUPLICADO),
+                resultado.resultados().stream().map(TopicoImportItemDTO::resultado).toList());
+        assertEquals(100L, resultado.resultados().get(0).id());
+        assertEquals("El titulo es obligatorio", resultado.resultados().get(2).detalle());
+        assertEquals("No se encontró el curso con ID: 99", resultado.resultados().get(3).detalle());
+
+        // 6 líneas en lotes de 2: tres consultas de hashes, nunca una por línea. La última línea repite la primera
+        // (con otros espacios) y se detecta contra lo que ya confirmó el primer lote
+        verify(topicoRepository, times(3)).findContenidoHashExistentes(anyCollection());
+        verify(topicoRepository, times(1)).insertarEnLote(anyList());
+        verify(topicoSearchService, times(1)).programarIndexacion(anyList());
+    }
+
+    @Test
+    @DisplayName("Importar debería insertar cada lote con una sola llamada y asignar autor, hash y estado")
+    void importar_deberiaInsertarPorLote() throws IOException {
+        // Given
+        when(cursoRepository.findByIdInAndActivoTrue(anyCollection())).thenReturn(List.of(curso()));
+        asignarIdsAlInsertar();
+
+        // When
+        importar("""
+                {"titulo": "Uno", "mensaje": "Mensaje", "idCurso": 1}
+                {"titulo": "Dos", "mensaje": "Mensaje", "idCurso": 1}
+                {"titulo": "Tres", "mensaje": "Mensaje", "idCurso": 1}
+                """);
+
+        // Then
+        verify(topicoRepository).insertarEnLote(argThat(lote -> lote.size() == 2
+                && lote.get(0).getContenidoHash().equals(ContenidoHashUtils.calcular("Uno", "Mensaje"))
+                && lote.get(0).getFechaModificacion() != null));
+        verify(topicoRepository).insertarEnLote(argThat(lote -> lote.size() == 1));
+        verify(usuarioRepository, times(2)).getReferenceById(1L);
+        verify(topicoRepository, never()).save(any(Topico.class));
+    }
+
+    @Test
+    @DisplayName("Importar debería marcar duplicada la línea que otro request insertó durante el batch")
+    void importar_conDuplicadoConcurrente_deberiaMarcarDuplicado() throws IOException {
+        // Given
+        final String hash = ContenidoHashUtils.calcular("Uno", "Mensaje");
+        when(cursoRepository.findByIdInAndActivoTrue(anyCollection())).thenReturn(List.of(curso()));
+        when(topicoRepository.findContenidoHashExistentes(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(hash));
+        doThrow(new DataIntegrityViolationException("uk_topicos_contenido_hash"))
+                .doNothing()
+                .when(topicoRepository).insertarEnLote(anyList());
+
+        // When
+        final TopicoImportResultadoDTO resultado = importar("""
+                {"titulo": "Uno", "mensaje": "Mensaje", "idCurso": 1}
+                """);
+
+        // Then
+        assertEquals(0, resultado.creados());
+        assertEquals(1, resultado.duplicados());
+    }
+
+    @Test
+    @DisplayName("Importar debería insertar fila por fila el lote rechazado y conservar los lotes ya confirmados")
+    void importar_conLoteRechazado_deberiaReintentarFilaPorFila() throws IOException {
+        // Given
+        when(cursoRepository.findByIdInAndActivoTrue(anyCollection())).thenReturn(List.of(curso()));
+        when(topicoRepository.findContenidoHashExistentes(anyCollection())).thenReturn(List.of());
+        // Primer lote confirmado; el segundo choca completo, y ya fila por fila choca solo "Cuatro"
+        doAnswer(asignarIds())
+                .doThrow(new DataIntegrityViolationException("Duplicate entry for key 'topicos.uk_topicos_contenido_hash'"))
+                .doAnswer(asignarIds())
+                .doThrow(new DataIntegrityViolationException("Duplicate entry for key 'topicos.uk_topicos_contenido_hash'"))
+                .when(topicoRepository).insertarEnLote(anyList());
+
+        // When
+        final TopicoImportResultadoDTO resultado = importar("""
+                {"titulo": "Uno", "mensaje": "Mensaje", "idCurso": 1}
+                {"titulo": "Dos", "mensaje": "Mensaje", "idCurso": 1}
+                {"titulo": "Tres", "mensaje": "Mensaje", "idCurso": 1}
+                {"titulo": "Cuatro", "mensaje": "Mensaje", "idCurso": 1}
+                """);
+
+        // Then
+        assertEquals(List.of(Resultado.CREADO, Resultado.CREADO, Resultado.CREADO, Resultado.DUPLICADO),
+                resultado.resultados().stream().map(TopicoImportItemDTO::resultado).toList());
+        assertEquals(3, resultado.creados());
+        assertEquals(1, resultado.duplicados());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Importar debería marcar inválida, no duplicada, una fila rechazada por otra restricción")
+    void importar_conOtraRestriccion_deberiaMarcarInvalido() throws IOException {
+        // Given
+        when(cursoRepository.findByIdInAndActivoTrue(anyCollection())).thenReturn(List.of(curso()));
+        when(topicoRepository.findContenidoHashExistentes(anyCollection())).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("Cannot add or update a child row: a foreign key constraint fails (fk_topicos_curso)"))
+                .when(topicoRepository).insertarEnLote(anyList());
+
+        // When
+        final TopicoImportResultadoDTO resultado = importar("""
+                {"titulo": "Uno", "mensaje": "Mensaje", "idCurso": 1}
+                """);
+
+        // Then
+        assertEquals(0, resultado.duplicados());
+        assertEquals(1, resultado.invalidos());
+        assertEquals("La base de datos rechazó el registro.", resultado.resultados().get(0).detalle());
+    }
+
+    private TopicoImportResultadoDTO importar(final String ndjson) throws IOException {
+        return topicoImportService.importar(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void asignarIdsAlInsertar() {
+        doAnswer(asignarIds()).when(topicoRepository).insertarEnLote(anyList());
+    }
+
+    private Answer<Void> asignarIds() {
+        return invocation -> {
+            final List<Topico> lote = invocation.getArgument(0);
+            lote.forEach(topico -> {
+                topico.setId(secuencia.getAndIncrement());
+                hashesEnBase.add(topico.getContenidoHash());
+            });
+            return null;
+        };
+    }
+
+    private static Curso curso() {
+        return Curso.builder().withId(1L).withNombre("Spring Boot").withCategoria("Backend").withActivo(true).build();
+    }
+}
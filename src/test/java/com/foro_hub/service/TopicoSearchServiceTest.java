@@ -0,0 +1,168 @@
+package com.foro_hub.service;
+
+import com.foro_hub.domain.Curso;
+import com.foro_hub.domain.Topico;
+import com.foro_hub.domain.enums.StatusTopico;
+import com.foro_hub.dto.pagination.CursorPageDTO;
+import com.foro_hub.dto.topico.TopicoSearchResultDTO;
+import com.foro_hub.exception.InvalidCursorException;
+import com.foro_hub.exception.InvalidSearchQueryException;
+import com.foro_hub.repository.RespuestaRepository;
+import com.foro_hub.repository.TopicoRepository;
+import com.foro_hub.repository.projection.RespuestaMensaje;
+import com.foro_hub.search.TopicoSearchIndex;
+import com.foro_hub.util.KeysetPagination;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests para TopicoSearchService")
+class TopicoSearchServiceTest {
+
+    @Mock
+    private TopicoRepository topicoRepository;
+
+    @Mock
+    private RespuestaRepository respuestaRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TopicoSearchIndex index;
+    private TopicoSearchService topicoSearchService;
+
+    @BeforeEach
+    void setUp() {
+        index = new TopicoSearchIndex(new ByteBuffersDirectory(), 1000);
+        topicoSearchService = new TopicoSearchService(index, topicoRepository, respuestaRepository, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("Reindexar un tópico activo debería indexar su contenido y el de sus respuestas")
+    void reindexar_topicoActivo_deberiaIndexarConRespuestas() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(topicoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(topico(1L)));
+        when(respuestaRepository.findMensajesActivos(List.of(1L)))
+                .thenReturn(List.of(new RespuestaMensaje(1L, "Probá con un ConstraintValidator")));
+
+        // When
+        topicoSearchService.reindexar(1L);
+        index.refrescar();
+
+        // Then
+        final CursorPageDTO<TopicoSearchResultDTO> page = topicoSearchService.buscar("constraintvalidator", null, null, null, 10);
+        assertEquals(List.of(1L), page.content().stream().map(TopicoSearchResultDTO::id).toList());
+        // Sin readOnly la relectura va al primario: la réplica puede no tener todavía el commit que la programó
+        verify(transactionManager).getTransaction(argThat(definicion -> !definicion.isReadOnly()));
+    }
+
+    @Test
+    @DisplayName("Reindexar un tópico eliminado debería quitarlo del índice")
+    void reindexar_topicoEliminado_deberiaQuitarloDelIndice() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(topicoRepository.findByIdAndActivoTrue(1L))
+                .thenReturn(Optional.of(topico(1L)))
+                .thenReturn(Optional.empty());
+        topicoSearchService.reindexar(1L);
+
+        // When
+        topicoSearchService.reindexar(1L);
+        index.refrescar();
+
+        // Then
+        assertTrue(topicoSearchService.buscar("validaciones", null, null, null, 10).content().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Buscar con más resultados que el tamaño de página debería devolver el cursor siguiente")
+    void buscar_conMasResultados_deberiaRetornarCursorSiguiente() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        for (long id = 1; id <= 3; id++) {
+            when(topicoRepository.findByIdAndActivoTrue(id)).thenReturn(Optional.of(topico(id)));
+            topicoSearchService.reindexar(id);
+        }
+        index.refrescar();
+
+        // When
+        final CursorPageDTO<TopicoSearchResultDTO> primera = topicoSearchService.buscar("validaciones", null, null, null, 2);
+        final CursorPageDTO<TopicoSearchResultDTO> segunda = topicoSearchService.buscar("validaciones", null, null, primera.nextCursor(), 2);
+
+        // Then
+        assertEquals(2, primera.content().size());
+        assertNotNull(primera.nextCursor());
+        assertEquals(1, segunda.content().size());
+        assertNull(segunda.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Inicializar sin índice previo debería reconstruirlo desde la base y confirmarlo")
+    void inicializarIndice_sinIndice_deberiaReconstruir() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(topicoRepository.findActivosParaIndexar(eq(0L), any())).thenReturn(List.of(topico(1L), topico(2L)));
+
+        // When
+        topicoSearchService.inicializarIndice();
+        index.refrescar();
+
+        // Then
+        assertEquals(2, index.cantidadDocumentos());
+        assertFalse(index.estadisticas().cambiosSinConfirmar());
+        assertEquals(2, topicoSearchService.buscar("validaciones", null, null, null, 10).content().size());
+    }
+
+    @Test
+    @DisplayName("Buscar sin texto debería lanzar InvalidSearchQueryException")
+    void buscar_sinTexto_deberiaLanzarExcepcion() {
+        assertThrows(InvalidSearchQueryException.class, () -> topicoSearchService.buscar("  ", null, null, null, 10));
+        assertThrows(InvalidSearchQueryException.class,
+                () -> topicoSearchService.buscar("a".repeat(TopicoSearchService.MAX_LONGITUD_CONSULTA + 1), null, null, null, 10));
+    }
+
+    @Test
+    @DisplayName("Buscar con un cursor hacia atrás debería lanzar InvalidCursorException")
+    void buscar_conCursorAnterior_deberiaLanzarExcepcion() {
+        final String cursor = KeysetPagination.encode(KeysetPagination.Direction.PREVIOUS, "1.5", 3L);
+
+        assertThrows(InvalidCursorException.class, () -> topicoSearchService.buscar("java", null, null, cursor, 10));
+    }
+
+    private static Topico topico(final Long id) {
+        return Topico.builder()
+                .withId(id)
+                .withTitulo("Validaciones en Spring " + id)
+                .withMensaje("¿Cómo valido un DTO?")
+                .withStatus(StatusTopico.ABIERTO)
+                .withFechaCreacion(LocalDateTime.of(2026, 2, 4, 15, 30))
+                .withCurso(Curso.builder().withId(1L).withNombre("Spring Boot").withCategoria("Backend").build())
+                .build();
+    }
+}
@@ -4,18 +4,32 @@ import com.foro_hub.domain.Curso;
 import com.foro_hub.domain.Topico;
 import com.foro_hub.domain.Usuario;
 import com.foro_hub.domain.enums.StatusTopico;
+import com.foro_hub.dto.pagination.CursorPageDTO;
 import com.foro_hub.dto.topico.TopicoCreateDTO;
+import com.foro_hub.dto.topico.TopicoFiltroDTO;
 import com.foro_hub.dto.topico.TopicoResponseDTO;
 import com.foro_hub.dto.topico.TopicoUpdateDTO;
 import com.foro_hub.exception.DuplicateTopicoException;
+import com.foro_hub.exception.InvalidCursorException;
+import com.foro_hub.exception.InvalidFilterException;
+import com.foro_hub.exception.PreconditionFailedException;
 import com.foro_hub.exception.ResourceNotFoundException;
+import com.foro_hub.mapper.TopicoMapper;
 import com.foro_hub.repository.CursoRepository;
 import com.foro_hub.repository.TopicoRepository;
+import com.foro_hub.repository.UsuarioRepository;
+import com.foro_hub.repository.projection.TopicoVersion;
+import com.foro_hub.security.AuthenticatedUser;
+import com.foro_hub.util.ContenidoHashUtils;
+import com.foro_hub.util.KeysetPagination;
+import com.foro_hub.util.Versionado;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -24,9 +38,12 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +62,15 @@ class TopicoServiceTest {
     @Mock
     private CursoRepository cursoRepository;
 
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private TopicoSearchService topicoSearchService;
+
+    @Spy
+    private ReintentoOptimista reintentoOptimista = new ReintentoOptimista(mock(PlatformTransactionManager.class), 3);
+
     @InjectMocks
     private TopicoService topicoService;
 
@@ -81,6 +107,8 @@ class TopicoServiceTest {
                 .withNombre("Spring Boot")
                 .withCategoria("Backend")
                 .withActivo(true)
+                .withVersion(1L)
+                .withFechaModificacion(LocalDateTime.of(2026, 2, 1, 10, 0))
                 .build();
 
         topico = Topico.builder()
@@ -93,18 +121,22 @@ class TopicoServiceTest {
                 .withCurso(curso)
                 .withRespuestas(new ArrayList<>())
                 .withActivo(true)
+                .withVersion(3L)
+                .withFechaModificacion(LocalDateTime.of(2026, 2, 4, 15, 30))
                 .build();
     }
 
     private void setupSecurityContext() {
+        final AuthenticatedUser principal = AuthenticatedUser.from(usuario);
         final Authentication authentication = new UsernamePasswordAuthenticationToken(
-                usuario,
+                principal,
                 null,
-                usuario.getAuthorities()
+                principal.getAuthorities()
         );
         final SecurityContext securityContext = mock(SecurityContext.class);
         when(securityContext.getAuthentication()).thenReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
+        when(usuarioRepository.getReferenceById(1L)).thenReturn(usuario);
     }
 
     @Test
@@ -112,9 +144,15 @@ class TopicoServiceTest {
     void crearTopico_conDatosValidos_deberiaCrearYRetornarTopicoResponseDTO() {
         // Given
         setupSecurityContext();
-        when(topicoRepository.existsByTituloAndMensaje(anyString(), anyString())).thenReturn(false);
+        final Usuario referenciaAutor = mock(Usuario.class);
+        when(usuarioRepository.getReferenceById(1L)).thenReturn(referenciaAutor);
+        when(topicoRepository.existsByContenidoHash(anyString())).thenReturn(false);
         when(cursoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(curso));
-        when(topicoRepository.save(any(Topico.class))).thenReturn(topico);
+        when(topicoRepository.saveAndFlush(any(Topico.class))).thenAnswer(invocation -> {
+            final Topico guardado = invocation.getArgument(0);
+            guardado.setId(1L);
+            return guardado;
+        });
 
         // When
         final TopicoResponseDTO response = topicoService.crearTopico(topicoCreateDTO);
@@ -126,13 +164,18 @@ class TopicoServiceTest {
         assertEquals("Necesito recursos para aprender Spring Boot desde cero", response.mensaje());
         assertEquals(StatusTopico.ABIERTO, response.status());
         assertNotNull(response.fechaCreacion());
+        // El nombre sale del principal y el curso ya cargado: la referencia del autor no se inicializa
+        assertEquals("Juan Pérez", response.autorNombre());
+        assertEquals("Spring Boot", response.cursoNombre());
+        verifyNoInteractions(referenciaAutor);
+        verify(topicoSearchService).programarReindexacion(1L);
     }
 
     @Test
     @DisplayName("Crear tópico con tópico duplicado debería lanzar DuplicateTopicoException")
     void crearTopico_conTopicoDuplicado_deberiaLanzarDuplicateTopicoException() {
         // Given
-        when(topicoRepository.existsByTituloAndMensaje(anyString(), anyString())).thenReturn(true);
+        when(topicoRepository.existsByContenidoHash(anyString())).thenReturn(true);
 
         // When & Then
         final DuplicateTopicoException exception = assertThrows(
@@ -143,12 +186,42 @@ class TopicoServiceTest {
         assertEquals("Ya existe un tópico con el mismo título y mensaje.", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Crear tópico que choca con la restricción única debería lanzar DuplicateTopicoException")
+    void crearTopico_conViolacionDeRestriccionUnica_deberiaLanzarDuplicateTopicoException() {
+        // Given
+        setupSecurityContext();
+        when(topicoRepository.existsByContenidoHash(anyString())).thenReturn(false);
+        when(cursoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(curso));
+        when(topicoRepository.saveAndFlush(any(Topico.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry for key 'topicos.uk_topicos_contenido_hash'"));
+
+        // When & Then
+        assertThrows(DuplicateTopicoException.class, () -> topicoService.crearTopico(topicoCreateDTO));
+        verifyNoInteractions(topicoSearchService);
+    }
+
+    @Test
+    @DisplayName("Crear tópico que choca con otra restricción no debería informarlo como duplicado")
+    void crearTopico_conViolacionDeOtraRestriccion_deberiaPropagarLaExcepcion() {
+        // Given
+        setupSecurityContext();
+        when(topicoRepository.existsByContenidoHash(anyString())).thenReturn(false);
+        when(cursoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(curso));
+        when(topicoRepository.saveAndFlush(any(Topico.class))).thenThrow(new DataIntegrityViolationException(
+                "Cannot add or update a child row: a foreign key constraint fails (fk_topico_autor)"));
+
+        // When & Then
+        assertThrows(DataIntegrityViolationException.class, () -> topicoService.crearTopico(topicoCreateDTO));
+        verifyNoInteractions(topicoSearchService);
+    }
+
     @Test
     @DisplayName("Crear tópico con curso inexistente debería lanzar ResourceNotFoundException")
     void crearTopico_conCursoInexistente_deberiaLanzarResourceNotFoundException() {
         // Given
         setupSecurityContext();
-        when(topicoRepository.existsByTituloAndMensaje(anyString(), anyString())).thenReturn(false);
+        when(topicoRepository.existsByContenidoHash(anyString())).thenReturn(false);
         when(cursoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.empty());
 
         // When & Then
@@ -193,18 +266,49 @@ class TopicoServiceTest {
         assertTrue(exception.getMessage().contains("No se encontró el tópico con ID: 999"));
     }
 
+    @Test
+    @DisplayName("Obtener tópico versionado debería devolver el cuerpo con la versión leída en la misma llamada")
+    void obtenerTopicoPorId_versionado_deberiaRetornarCuerpoYVersion() {
+        // Given
+        final LocalDateTime fecha = LocalDateTime.of(2026, 2, 4, 15, 30);
+        when(topicoRepository.findVersion(1L)).thenReturn(Optional.of(new TopicoVersion(3L, fecha, 1L, fecha)));
+        when(topicoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(topico));
+
+        // When
+        final Versionado<TopicoResponseDTO> response = topicoService.obtenerTopicoPorId(1L, version -> false);
+
+        // Then
+        assertEquals(1L, response.cuerpo().id());
+        assertEquals("\"3.1\"", response.version().etag());
+    }
+
+    @Test
+    @DisplayName("Obtener tópico versionado cuando el cliente tiene la versión actual no debería leer el tópico")
+    void obtenerTopicoPorId_noModificado_noDeberiaLeerElTopico() {
+        // Given
+        final LocalDateTime fecha = LocalDateTime.of(2026, 2, 4, 15, 30);
+        when(topicoRepository.findVersion(1L)).thenReturn(Optional.of(new TopicoVersion(3L, fecha, 1L, fecha)));
+
+        // When
+        final Versionado<TopicoResponseDTO> response = topicoService.obtenerTopicoPorId(1L, version -> true);
+
+        // Then
+        assertNull(response.cuerpo());
+        assertEquals("\"3.1\"", response.version().etag());
+        verify(topicoRepository, never()).findByIdAndActivoTrue(any());
+    }
+
     @Test
     @DisplayName("Listar tópicos debería retornar Page de TopicoResponseDTO")
     void listarTopicos_deberiaRetornarPageDeTopicoResponseDTO() {
         // Given
-        final List<Topico> topicos = List.of(topico);
-        final Page<Topico> pageTopicos = new PageImpl<>(topicos);
+        final Page<TopicoResponseDTO> pageTopicos = new PageImpl<>(List.of(TopicoMapper.toResponseDTO(topico)));
         final Pageable pageable = PageRequest.of(0, 10);
 
-        when(topicoRepository.findByActivoTrue(pageable)).thenReturn(pageTopicos);
+        when(topicoRepository.findListado(any(), isNull(), eq(pageable))).thenReturn(pageTopicos);
 
         // When
-        final Page<TopicoResponseDTO> response = topicoService.listarTopicos(pageable);
+        final Page<TopicoResponseDTO> response = topicoService.listarTopicos(TopicoFiltroDTO.builder().build(), pageable, false);
 
         // Then
         assertNotNull(response);
@@ -213,24 +317,155 @@ class TopicoServiceTest {
         assertEquals("¿Cómo aprender Spring Boot?", response.getContent().get(0).titulo());
     }
 
+    @Test
+    @DisplayName("Listar tópicos en modo resumen debería usar la consulta que recorta el mensaje")
+    void listarTopicos_resumen_deberiaRecortarMensajeEnLaConsulta() {
+        // Given
+        final Pageable pageable = PageRequest.of(0, 10);
+        when(topicoRepository.findListado(any(), eq(TopicoService.LONGITUD_RESUMEN_MENSAJE), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(TopicoMapper.toResponseDTO(topico))));
+
+        // When
+        final Page<TopicoResponseDTO> response = topicoService.listarTopicos(TopicoFiltroDTO.builder().build(), pageable, true);
+
+        // Then
+        assertEquals(1, response.getContent().size());
+    }
+
+    @Test
+    @DisplayName("Listar tópicos con un rango de fechas invertido debería lanzar InvalidFilterException")
+    void listarTopicos_rangoInvertido_deberiaLanzarExcepcion() {
+        // Given
+        final TopicoFiltroDTO filtro = TopicoFiltroDTO.builder()
+                .withFechaDesde(LocalDateTime.of(2026, 2, 1, 0, 0))
+                .withFechaHasta(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .build();
+
+        // When & Then
+        assertThrows(InvalidFilterException.class,
+                () -> topicoService.listarTopicos(filtro, PageRequest.of(0, 10), false));
+        verify(topicoRepository, never()).findListado(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Listar tópicos por cursor sin cursor debería retornar la primera página y el cursor siguiente")
+    void listarTopicosPorCursor_sinCursor_deberiaRetornarPrimeraPagina() {
+        // Given
+        final TopicoResponseDTO otroTopico = TopicoResponseDTO.builder()
+                .withId(2L)
+                .withTitulo("Otro tópico")
+                .withMensaje("Otro mensaje")
+                .withFechaCreacion(topico.getFechaCreacion().plusMinutes(1))
+                .build();
+
+        when(topicoRepository.findActivosDesdeInicio(PageRequest.of(0, 2)))
+                .thenReturn(List.of(TopicoMapper.toResponseDTO(topico), otroTopico));
+
+        // When
+        final CursorPageDTO<TopicoResponseDTO> response = topicoService.listarTopicosPorCursor(null, 1);
+
+        // Then
+        assertEquals(1, response.content().size());
+        assertEquals(1L, response.content().get(0).id());
+        assertNotNull(response.nextCursor());
+        assertNull(response.previousCursor());
+        verify(topicoRepository, never()).findListado(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Listar tópicos por cursor con cursor anterior debería consultar hacia atrás y devolver orden ascendente")
+    void listarTopicosPorCursor_conCursorAnterior_deberiaRetornarOrdenAscendente() {
+        // Given
+        final LocalDateTime fecha = LocalDateTime.of(2026, 2, 4, 15, 30);
+        final TopicoResponseDTO anterior = TopicoResponseDTO.builder().withId(5L).withTitulo("A").withFechaCreacion(fecha).build();
+        final TopicoResponseDTO masAnterior = TopicoResponseDTO.builder().withId(4L).withTitulo("B").withFechaCreacion(fecha).build();
+        final String cursor = KeysetPagination.encode(KeysetPagination.Direction.PREVIOUS, fecha.toString(), 6L);
+
+        when(topicoRepository.findActivosAntesDe(fecha, 6L, PageRequest.of(0, 11)))
+                .thenReturn(List.of(anterior, masAnterior));
+
+        // When
+        final CursorPageDTO<TopicoResponseDTO> response = topicoService.listarTopicosPorCursor(cursor, 10);
+
+        // Then
+        assertEquals(List.of(4L, 5L), response.content().stream().map(TopicoResponseDTO::id).toList());
+        assertNotNull(response.nextCursor());
+        assertNull(response.previousCursor());
+    }
+
+    @Test
+    @DisplayName("Listar tópicos por cursor con cursor inválido debería lanzar InvalidCursorException")
+    void listarTopicosPorCursor_conCursorInvalido_deberiaLanzarInvalidCursorException() {
+        // When & Then
+        assertThrows(InvalidCursorException.class,
+                () -> topicoService.listarTopicosPorCursor("no-es-un-cursor", 10));
+    }
+
+    @Test
+    @DisplayName("Listar tópicos por cursor con una dirección desconocida debería lanzar InvalidCursorException")
+    void listarTopicosPorCursor_conDireccionDesconocida_deberiaLanzarInvalidCursorException() {
+        // Given: un cursor bien formado pero con una dirección que encode nunca genera
+        final String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("X|2026-02-04T15:30|6".getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        assertThrows(InvalidCursorException.class, () -> topicoService.listarTopicosPorCursor(cursor, 10));
+        verifyNoInteractions(topicoRepository);
+    }
+
     @Test
     @DisplayName("Actualizar tópico con datos válidos debería actualizar y retornar TopicoResponseDTO")
     void actualizarTopico_conDatosValidos_deberiaActualizarYRetornarTopicoResponseDTO() {
         // Given
         when(topicoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(topico));
-        when(topicoRepository.save(any(Topico.class))).thenAnswer(invocation -> {
-            Topico topicoActualizado = invocation.getArgument(0);
-            topicoActualizado.setStatus(StatusTopico.CERRADO);
-            return topicoActualizado;
-        });
 
         // When
-        final TopicoResponseDTO response = topicoService.actualizarTopico(1L, topicoUpdateDTO);
+        final Versionado<TopicoResponseDTO> actualizado = topicoService.actualizarTopico(1L, topicoUpdateDTO, 3L);
 
         // Then
+        final TopicoResponseDTO response = actualizado.cuerpo();
         assertNotNull(response);
         assertEquals(1L, response.id());
         assertEquals(StatusTopico.CERRADO, response.status());
+        verify(topicoRepository).flush();
+        verify(topicoRepository, never()).saveAndFlush(any(Topico.class));
+        verify(topicoSearchService).programarReindexacion(1L);
+        // El fixture no tiene hash (como un histórico duplicado): el contenido nuevo se valida y su hash se guarda
+        final String hashNuevo = ContenidoHashUtils.calcular(topicoUpdateDTO.titulo(), topicoUpdateDTO.mensaje());
+        verify(topicoRepository).existsByContenidoHash(hashNuevo);
+        assertEquals(hashNuevo, topico.getContenidoHash());
+    }
+
+    @Test
+    @DisplayName("Actualizar tópico debería devolver el ETag de la entidad escrita, sin volver a consultar la versión")
+    void actualizarTopico_deberiaDevolverVersionDeLaEntidadEscrita() {
+        // Given
+        when(topicoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(topico));
+        doAnswer(invocation -> {
+            topico.setVersion(4L);
+            return null;
+        }).when(topicoRepository).flush();
+
+        // When
+        final Versionado<TopicoResponseDTO> actualizado = topicoService.actualizarTopico(1L, topicoUpdateDTO, 3L);
+
+        // Then
+        assertEquals("\"4.1\"", actualizado.version().etag());
+        verify(topicoRepository, never()).findVersion(any());
+    }
+
+    @Test
+    @DisplayName("Actualizar tópico con If-Match de otra versión debería lanzar PreconditionFailedException sin modificarlo")
+    void actualizarTopico_conVersionDistinta_deberiaLanzarPreconditionFailedException() {
+        // Given
+        when(topicoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(topico));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class,
+                () -> topicoService.actualizarTopico(1L, topicoUpdateDTO, 2L));
+
+        assertEquals(StatusTopico.ABIERTO, topico.getStatus());
+        verify(topicoSearchService, never()).programarReindexacion(any());
     }
 
     @Test
@@ -245,12 +480,12 @@ class TopicoServiceTest {
 
         when(topicoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(topico));
 
-        when(topicoRepository.existsByTituloAndMensaje(dtoConDuplicado.titulo(), dtoConDuplicado.mensaje()))
+        when(topicoRepository.existsByContenidoHash(ContenidoHashUtils.calcular(dtoConDuplicado.titulo(), dtoConDuplicado.mensaje())))
                 .thenReturn(true);
 
         // When & Then
         assertThrows(DuplicateTopicoException.class,
-                () -> topicoService.actualizarTopico(1L, dtoConDuplicado));
+                () -> topicoService.actualizarTopico(1L, dtoConDuplicado, null));
 
         verify(topicoRepository, never()).save(any(Topico.class));
     }
@@ -266,14 +501,13 @@ class TopicoServiceTest {
                 .build();
 
         when(topicoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(topico));
-        when(topicoRepository.save(any(Topico.class))).thenReturn(topico);
 
         // When
-        topicoService.actualizarTopico(1L, dtoSinCambios);
+        topicoService.actualizarTopico(1L, dtoSinCambios, null);
 
         // Then
-        verify(topicoRepository).save(any(Topico.class));
-        verify(topicoRepository, never()).existsByTituloAndMensaje(anyString(), anyString());
+        assertEquals(StatusTopico.CERRADO, topico.getStatus());
+        verify(topicoRepository, never()).existsByContenidoHash(anyString());
     }
 
     @Test
@@ -285,7 +519,7 @@ class TopicoServiceTest {
         // When & Then
         final ResourceNotFoundException exception = assertThrows(
                 ResourceNotFoundException.class,
-                () -> topicoService.actualizarTopico(999L, topicoUpdateDTO)
+                () -> topicoService.actualizarTopico(999L, topicoUpdateDTO, null)
         );
 
         assertTrue(exception.getMessage().contains("No se encontró el tópico con ID: 999"));
@@ -296,13 +530,14 @@ class TopicoServiceTest {
     void eliminarTopico_conIdExistente_deberiaMarcarComoInactivo() {
         // Given
         when(topicoRepository.findByIdAndActivoTrue(1L)).thenReturn(Optional.of(topico));
-        when(topicoRepository.save(any(Topico.class))).thenReturn(topico);
 
         // When
         topicoService.eliminarTopico(1L);
 
         // Then
         assertFalse(topico.getActivo());
+        verify(topicoRepository, never()).save(any(Topico.class));
+        verify(topicoSearchService).programarReindexacion(1L);
     }
 
     @Test